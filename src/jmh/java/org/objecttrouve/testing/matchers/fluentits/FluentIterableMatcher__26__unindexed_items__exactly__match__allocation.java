@@ -0,0 +1,54 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.objecttrouve.testing.matchers.ConvenientMatchers.anIterableOf;
+
+/**
+ * <p>Every item {@code Matcher} applied to every item (none of them can be looked up by equality).</p>
+ * <p>Meant to be run with the GC profiler ({@code -prof gc}).
+ * {@code gc.alloc.rate.norm} should grow with the number of items, not with the number of matrix cells.
+ * That is, about 10 times from 100 to 1000 items rather than 100 times.</p>
+ */
+@SuppressWarnings("unused")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FluentIterableMatcher__26__unindexed_items__exactly__match__allocation {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private List<Integer> input;
+    private FluentIterableMatcher<Integer, Iterable<Integer>> matcher;
+
+    @Setup(Level.Trial)
+    public void checkMatches() {
+        input = range(0, size).boxed().collect(toList());
+        final Matcher[] expectations = input.stream().map(CoreMatchers::equalTo).toArray(Matcher[]::new);
+        matcher = anIterableOf(Integer.class)
+            .exactly()
+            .withItemsMatching(expectations);
+        assertThat(matcher(), is(true));
+    }
+
+    @Benchmark
+    public boolean matcher() {
+        return matcher.matches(input);
+    }
+}
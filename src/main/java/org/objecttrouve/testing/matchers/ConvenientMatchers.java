@@ -10,7 +10,11 @@ package org.objecttrouve.testing.matchers;
 import java.util.Map;
 import org.objecttrouve.testing.matchers.customization.MatcherFactory;
 import org.objecttrouve.testing.matchers.fluentatts.FluentAttributeMatcher;
+import org.objecttrouve.testing.matchers.fluentits.FluentArrayMatcher;
+import org.objecttrouve.testing.matchers.fluentits.FluentDoubleArrayMatcher;
+import org.objecttrouve.testing.matchers.fluentits.FluentIntArrayMatcher;
 import org.objecttrouve.testing.matchers.fluentits.FluentIterableMatcher;
+import org.objecttrouve.testing.matchers.fluentits.FluentLongArrayMatcher;
 import org.objecttrouve.testing.matchers.fluentits.FluentMapMatcher;
 
 /**
@@ -84,6 +88,18 @@ public class ConvenientMatchers {
         return defaultFactory.iterableLike(iterable);
     }
 
+    /**
+     * <p>Factory method for a {@link FluentArrayMatcher}
+     * to match an <i>actual</i> array's properties.</p>
+     *
+     * @param klass The expected class of the actual array's items.
+     * @param <X> Expected type of the actual array's items.
+     * @return FluentArrayMatcher.
+     */
+    public static <X> FluentArrayMatcher<X> anArrayOf(final Class<X> klass){
+        return defaultFactory.arrayOf(klass);
+    }
+
     /**
      * <p>Factory method for a {@link FluentMapMatcher}
      * to match an <i>actual</i> {@code Map}'s properties.</p>
@@ -97,6 +113,36 @@ public class ConvenientMatchers {
         return defaultFactory.aMapLike(map);
     }
 
+    /**
+     * <p>Factory method for a {@link FluentIntArrayMatcher}
+     * to match an <i>actual</i> {@code int[]}'s properties without boxing its values.</p>
+     *
+     * @return FluentIntArrayMatcher.
+     */
+    public static FluentIntArrayMatcher anIntArray(){
+        return defaultFactory.intArray();
+    }
+
+    /**
+     * <p>Factory method for a {@link FluentLongArrayMatcher}
+     * to match an <i>actual</i> {@code long[]}'s properties without boxing its values.</p>
+     *
+     * @return FluentLongArrayMatcher.
+     */
+    public static FluentLongArrayMatcher aLongArray(){
+        return defaultFactory.longArray();
+    }
+
+    /**
+     * <p>Factory method for a {@link FluentDoubleArrayMatcher}
+     * to match an <i>actual</i> {@code double[]}'s properties without boxing its values.</p>
+     *
+     * @return FluentDoubleArrayMatcher.
+     */
+    public static FluentDoubleArrayMatcher aDoubleArray(){
+        return defaultFactory.doubleArray();
+    }
+
     /**
      * <p>Retrieve a {@link MatcherFactory} on which symbols, stringifiers and other settings can be configured.</p>
      * @return {@link MatcherFactory}*/
@@ -18,6 +18,7 @@ package org.objecttrouve.testing.matchers.api;
  *    <li>unicode characters used to express particular mismatch characteristics</li>
  *    <li>printing of objects involved</li>
  *    <li>debug mode / additonal verbose output</li>
+ *    <li>limits for the size of mismatch descriptions</li>
  * </ul>
  * <p>
  *    The <code>Config</code> is the single source of truth for all such settings.
@@ -45,4 +46,24 @@ public interface Config {
      * @return <code>true</code> when debug output enabled
      */
     boolean isInDebugMode();
+
+    /**
+     * Gets the maximum number of lines describing the items of a collection in a mismatch description.
+     * Further items are summed up in a single line.
+     *
+     * @return maximum number of item lines, <code>Integer.MAX_VALUE</code> for no limit
+     */
+    default int getMaxItemLines() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the number of items shown before and after each violating item of a collection in a mismatch description.
+     * Runs of other items are collapsed into a single line with their count.
+     *
+     * @return number of items around violations, <code>Integer.MAX_VALUE</code> to show all items
+     */
+    default int getContextRadius() {
+        return Integer.MAX_VALUE;
+    }
 }
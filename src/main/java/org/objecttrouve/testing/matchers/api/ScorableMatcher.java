@@ -7,6 +7,8 @@
 
 package org.objecttrouve.testing.matchers.api;
 
+import org.hamcrest.Matcher;
+
 /**
  * <p>
  *     Provides a measure for the extent to which an implementing matcher matched.
@@ -48,5 +50,27 @@ public interface ScorableMatcher {
      */
     double getScore();
 
+    /**
+     * <p>
+     *     Gets the score of the given item, 1 for a match,
+     *     without relying on the state left over by a previous call to {@code Matcher#matches()}.
+     * </p>
+     * <p>
+     *     The default implementation applies the matcher to the item first (if it is a {@code Matcher}).
+     *     Unless it matched, it returns {@link #getScore()}.
+     *     <br>
+     *     Implementations that compute the score without changing their own state override it,
+     *     so it can be called from any thread.
+     * </p>
+     *
+     * @param item The <i>actual</i> {@code Object}.
+     * @return value between 0 and 1
+     */
+    default double score(final Object item) {
+        if (this instanceof Matcher && ((Matcher<?>) this).matches(item)) {
+            return 1.0;
+        }
+        return getScore();
+    }
 
 }
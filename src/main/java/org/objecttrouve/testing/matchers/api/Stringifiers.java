@@ -8,6 +8,7 @@
 package org.objecttrouve.testing.matchers.api;
 
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
@@ -72,4 +73,23 @@ public interface Stringifiers {
      * @return <code>Optional</code> stringifier function for input <code>object</code>
      */
     <X> Optional<Function<X, String>> getDebugStringifier(final X object);
+
+    /**
+     * <p>
+     *     Gets a condensing stringifier <Code>BiFunction</Code> for the input <code>object</code>
+     *     that is told the number of characters that will be shown at most,
+     *     wrapped in an <code>Optional</code> for being nullable.
+     * </p>
+     * <p>
+     *     The returned function provides a <b>short</b> description of the input object.
+     *     It may stop describing the object once that number of characters is reached.
+     *     By default, it's the short stringifier ignoring the number.
+     * </p>
+     * @param <X> object type
+     * @param object the instance to stringify
+     * @return <code>Optional</code> stringifier function for input <code>object</code> and the maximum visible length
+     */
+    default <X> Optional<BiFunction<X, Integer, String>> getBoundedShortStringifier(final X object) {
+        return getShortStringifier(object).map(stringifier -> (x, maxLength) -> stringifier.apply(x));
+    }
 }
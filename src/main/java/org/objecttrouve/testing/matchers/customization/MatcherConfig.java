@@ -24,6 +24,8 @@ public class MatcherConfig implements Config {
         private Symbols symbols = SymbolsConfig.defaultSymbols();
         private Stringifiers stringifiers = StringifiersConfig.stringifiers().build();
         private boolean debugging;
+        private int maxItemLines = Integer.MAX_VALUE;
+        private int contextRadius = Integer.MAX_VALUE;
 
         /**
          * <p>
@@ -85,6 +87,46 @@ public class MatcherConfig implements Config {
             return this;
         }
 
+        /**
+         * <p>
+         *     Limits the number of lines describing the items of a collection in mismatch descriptions.
+         * </p>
+         * <p>
+         *     (Useful for huge collections. The remaining items are summed up in a single line.)
+         * </p>
+         *
+         * @param maxItemLines maximum number of item lines
+         * @return <code>this</code> <code>Builder</code>
+         */
+        @SuppressWarnings("WeakerAccess")
+        public Builder withMaxItemLines(final int maxItemLines) {
+            if (maxItemLines < 0) {
+                throw new IllegalArgumentException("Maximum number of item lines must not be negative.");
+            }
+            this.maxItemLines = maxItemLines;
+            return this;
+        }
+
+        /**
+         * <p>
+         *     Shows only the items of a collection around violations in mismatch descriptions.
+         * </p>
+         * <p>
+         *     Runs of other items are collapsed into a single line, like <code>⦗0..9999⦘ 💕 10000 item(s)</code>.
+         * </p>
+         *
+         * @param contextRadius number of items to show before and after each violating item
+         * @return <code>this</code> <code>Builder</code>
+         */
+        @SuppressWarnings("WeakerAccess")
+        public Builder withContextRadius(final int contextRadius) {
+            if (contextRadius < 0) {
+                throw new IllegalArgumentException("Context radius must not be negative.");
+            }
+            this.contextRadius = contextRadius;
+            return this;
+        }
+
         /**
          * <p>
          * Builds a {@link Config} configured with this builder's current settings.
@@ -112,6 +154,8 @@ public class MatcherConfig implements Config {
     private final Symbols symbols;
     private final Stringifiers stringifiers;
     private final boolean debugging;
+    private final int maxItemLines;
+    private final int contextRadius;
 
 
     /**
@@ -129,6 +173,8 @@ public class MatcherConfig implements Config {
         this.symbols = builder.symbols;
         this.stringifiers = builder.stringifiers;
         this.debugging = builder.debugging;
+        this.maxItemLines = builder.maxItemLines;
+        this.contextRadius = builder.contextRadius;
     }
 
     @Override
@@ -145,4 +191,14 @@ public class MatcherConfig implements Config {
     public boolean isInDebugMode() {
         return debugging;
     }
+
+    @Override
+    public int getMaxItemLines() {
+        return maxItemLines;
+    }
+
+    @Override
+    public int getContextRadius() {
+        return contextRadius;
+    }
 }
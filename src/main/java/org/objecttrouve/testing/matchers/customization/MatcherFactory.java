@@ -14,7 +14,11 @@ import org.objecttrouve.testing.matchers.api.Symbols;
 import org.objecttrouve.testing.matchers.fluentatts.FlamFactory;
 import org.objecttrouve.testing.matchers.fluentatts.FluentAttributeMatcher;
 import org.objecttrouve.testing.matchers.fluentits.FlimFactory;
+import org.objecttrouve.testing.matchers.fluentits.FluentArrayMatcher;
+import org.objecttrouve.testing.matchers.fluentits.FluentDoubleArrayMatcher;
+import org.objecttrouve.testing.matchers.fluentits.FluentIntArrayMatcher;
 import org.objecttrouve.testing.matchers.fluentits.FluentIterableMatcher;
+import org.objecttrouve.testing.matchers.fluentits.FluentLongArrayMatcher;
 import org.objecttrouve.testing.matchers.fluentits.FluentMapMatcher;
 
 /**
@@ -134,6 +138,30 @@ public class MatcherFactory {
             return this;
         }
 
+        /**
+         * <p>Limits the number of lines describing the items of a collection in mismatch descriptions.</p>
+         *
+         * @param maxItemLines maximum number of item lines
+         * @return <code>this</code> <code>Builder</code>
+         * @see MatcherConfig.Builder#withMaxItemLines(int)
+         */
+        public Builder withMaxItemLines(final int maxItemLines) {
+            this.config.withMaxItemLines(maxItemLines);
+            return this;
+        }
+
+        /**
+         * <p>Shows only the items of a collection around violations in mismatch descriptions.</p>
+         *
+         * @param contextRadius number of items to show before and after each violating item
+         * @return <code>this</code> <code>Builder</code>
+         * @see MatcherConfig.Builder#withContextRadius(int)
+         */
+        public Builder withContextRadius(final int contextRadius) {
+            this.config.withContextRadius(contextRadius);
+            return this;
+        }
+
         public MatcherFactory build(){
             return new MatcherFactory(config.build());
         }
@@ -194,6 +222,18 @@ public class MatcherFactory {
         return FlimFactory.fluentIterableMatcherLike(iterable, config);
     }
 
+    /**
+     * <p>Factory method for a {@link FluentArrayMatcher}
+     * to match an <i>actual</i> array's properties.</p>
+     *
+     * @param klass expected class of the actual array's items
+     * @param <X> expected type of the actual array's items
+     * @return FluentArrayMatcher for an actual array
+     */
+    public <X> FluentArrayMatcher<X> arrayOf(final Class<X> klass){
+        return FlimFactory.fluentArrayMatcher(klass, config);
+    }
+
     /**
      * <p>Factory method for a {@link FluentMapMatcher}
      * to match an <i>actual</i> {@code Map}'s properties.</p>
@@ -220,4 +260,34 @@ public class MatcherFactory {
         return FlimFactory.aMapLike(map, config);
     }
 
+    /**
+     * <p>Factory method for a {@link FluentIntArrayMatcher}
+     * to match an <i>actual</i> {@code int[]}'s properties.</p>
+     *
+     * @return FluentIntArrayMatcher.
+     */
+    public FluentIntArrayMatcher intArray(){
+        return FlimFactory.fluentIntArrayMatcher(config);
+    }
+
+    /**
+     * <p>Factory method for a {@link FluentLongArrayMatcher}
+     * to match an <i>actual</i> {@code long[]}'s properties.</p>
+     *
+     * @return FluentLongArrayMatcher.
+     */
+    public FluentLongArrayMatcher longArray(){
+        return FlimFactory.fluentLongArrayMatcher(config);
+    }
+
+    /**
+     * <p>Factory method for a {@link FluentDoubleArrayMatcher}
+     * to match an <i>actual</i> {@code double[]}'s properties.</p>
+     *
+     * @return FluentDoubleArrayMatcher.
+     */
+    public FluentDoubleArrayMatcher doubleArray(){
+        return FlimFactory.fluentDoubleArrayMatcher(config);
+    }
+
 }
@@ -13,6 +13,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
@@ -21,18 +22,17 @@ import java.util.function.Function;
  * Provides useful string descriptions
  * when the respective class doesn't have a suitable <code>toString</code>-implementation.</p>
  */
-@SuppressWarnings("rawtypes")
 public class StringifiersConfig implements Stringifiers {
 
 
     /**
      * <p>Builder for stringifier mappings via a fluent DSL.</p>
      */
-    @SuppressWarnings("rawtypes")
     public static class Builder {
 
-        private Map<Class<?>, Function> shortStringifiers = new HashMap<>();
-        private Map<Class<?>, Function> debugStringifiers = new HashMap<>();
+        private Map<Class<?>, Function<Object, String>> shortStringifiers = new HashMap<>();
+        private Map<Class<?>, Function<Object, String>> debugStringifiers = new HashMap<>();
+        private Map<Class<?>, BiFunction<Object, Integer, String>> boundedShortStringifiers = new HashMap<>();
 
         /**
          * <p>
@@ -48,11 +48,32 @@ public class StringifiersConfig implements Stringifiers {
          * @return <code>this Builder</code>
          */
         public <X> Builder withShortStringifier(final Class<X> klass, final Function<X, String> stringifier){
-           shortStringifiers.put(klass, stringifier);
+           shortStringifiers.put(klass, x -> stringifier.apply(klass.cast(x)));
            return this;
 
         }
 
+        /**
+         * <p>
+         * Sets a short pretty-printer (stringifier) for a class
+         * that is told the number of characters that will be shown at most.
+         * <br>
+         * The stringifier may stop once that number is reached,
+         * which pays off for classes that are expensive to describe in full.
+         * Supersedes a stringifier set via {@link Builder#withShortStringifier(Class, Function)} for the same class.
+         * </p>
+         *
+         * @param <X> type of <code>klass</code> to stringify
+         * @param klass class whose instances to stringify
+         * @param stringifier function to stringify instances of <code>klass</code> given the maximum visible length
+         * @return <code>this Builder</code>
+         */
+        @SuppressWarnings("WeakerAccess")
+        public <X> Builder withBoundedShortStringifier(final Class<X> klass, final BiFunction<X, Integer, String> stringifier){
+           boundedShortStringifiers.put(klass, (x, maxLength) -> stringifier.apply(klass.cast(x), maxLength));
+           return this;
+        }
+
         /**
          * <p>
          * Sets a short pretty-printer (stringifier) for a class.
@@ -69,7 +90,7 @@ public class StringifiersConfig implements Stringifiers {
          */
         @SuppressWarnings("WeakerAccess")
         public <X> Builder withDebugStringifier(final Class<X> klass, final Function<X, String> stringifier){
-           debugStringifiers.put(klass, stringifier);
+           debugStringifiers.put(klass, x -> stringifier.apply(klass.cast(x)));
            return this;
        }
 
@@ -81,13 +102,37 @@ public class StringifiersConfig implements Stringifiers {
            final StringifiersConfig stringifiersConfig = new StringifiersConfig(this);
            this.shortStringifiers = new HashMap<>();
            this.debugStringifiers = new HashMap<>();
+           this.boundedShortStringifiers = new HashMap<>();
            return stringifiersConfig;
        }
 
     }
 
-    private final Map<Class<?>, Function> shortStringifiers;
-    private final Map<Class<?>, Function> debugStringifiers;
+    private final Map<Class<?>, Function<Object, String>> shortStringifiers;
+    private final Map<Class<?>, Function<Object, String>> debugStringifiers;
+    private final Map<Class<?>, BiFunction<Object, Integer, String>> boundedShortStringifiers;
+    /*
+     * Resolved stringifiers (or none) per concrete class. Lock-free and safe to share between threads.
+     * Unlike a map keyed by class, a ClassValue doesn't keep classes or their class loaders alive.
+     */
+    private final ClassValue<Optional<Function<Object, String>>> resolvedShortStringifiers = new ClassValue<Optional<Function<Object, String>>>() {
+        @Override
+        protected Optional<Function<Object, String>> computeValue(final Class<?> klass) {
+            return Optional.ofNullable(lookup(StringifiersConfig.this::shortStringifierOf, klass));
+        }
+    };
+    private final ClassValue<Optional<BiFunction<Object, Integer, String>>> resolvedBoundedShortStringifiers = new ClassValue<Optional<BiFunction<Object, Integer, String>>>() {
+        @Override
+        protected Optional<BiFunction<Object, Integer, String>> computeValue(final Class<?> klass) {
+            return Optional.ofNullable(lookup(StringifiersConfig.this::boundedShortStringifierOf, klass));
+        }
+    };
+    private final ClassValue<Optional<Function<Object, String>>> resolvedDebugStringifiers = new ClassValue<Optional<Function<Object, String>>>() {
+        @Override
+        protected Optional<Function<Object, String>> computeValue(final Class<?> klass) {
+            return Optional.ofNullable(lookup(debugStringifiers::get, klass));
+        }
+    };
 
     /**
      * <p>Returns a stringifier mappings builder to configure pretty-printers with a fluent DSL.</p>
@@ -100,46 +145,66 @@ public class StringifiersConfig implements Stringifiers {
     private StringifiersConfig(final Builder builder) {
         this.shortStringifiers = Collections.unmodifiableMap(builder.shortStringifiers);
         this.debugStringifiers = Collections.unmodifiableMap(builder.debugStringifiers);
+        this.boundedShortStringifiers = Collections.unmodifiableMap(builder.boundedShortStringifiers);
     }
 
     @Override
     public <X> Optional<Function<X, String>> getShortStringifier(final X object) {
-        return get(this.shortStringifiers, object);
+        return resolved(resolvedShortStringifiers, object);
+    }
+
+    @Override
+    public <X> Optional<BiFunction<X, Integer, String>> getBoundedShortStringifier(final X object) {
+        return resolved(resolvedBoundedShortStringifiers, object);
     }
 
     @Override
     public <X> Optional<Function<X, String>> getDebugStringifier(final X object) {
-        return get(this.debugStringifiers, object);
+        return resolved(resolvedDebugStringifiers, object);
     }
 
+    /* A stringifier for any Object accepts an X as well. */
+    @SuppressWarnings("unchecked")
+    private static <F> Optional<F> resolved(final ClassValue<? extends Optional<?>> resolution, final Object object) {
+        if (object == null) {
+            return Optional.empty();
+        }
+        return (Optional<F>) resolution.get(object.getClass());
+    }
 
-    private<X> Optional<Function<X, String>> get(final Map<Class<?>, Function> map, final X object) {
-        //noinspection unchecked
-        return Optional.ofNullable((Function<X, String>) lookup(map, object));
+    /* The bounded stringifier registered for exactly this class supersedes the plain one. */
+    private Function<Object, String> shortStringifierOf(final Class<?> klass) {
+        final BiFunction<Object, Integer, String> bounded = boundedShortStringifiers.get(klass);
+        if (bounded != null) {
+            return x -> bounded.apply(x, Integer.MAX_VALUE);
+        }
+        return shortStringifiers.get(klass);
     }
 
-    private Function lookup(final Map<Class<?>, Function> map, final Object object) {
-        if (object == null) {
-            return null;
+    private BiFunction<Object, Integer, String> boundedShortStringifierOf(final Class<?> klass) {
+        final BiFunction<Object, Integer, String> bounded = boundedShortStringifiers.get(klass);
+        if (bounded != null) {
+            return bounded;
         }
-        return lookup(map, object.getClass());
+        final Function<Object, String> stringifier = shortStringifiers.get(klass);
+        return stringifier == null ? null : (x, maxLength) -> stringifier.apply(x);
     }
 
-    private Function lookup(final Map<Class<?>, Function> map, final Class<?> klass) {
-        final Function function = map.get(klass);
+    /* The class itself first, then its interfaces, then its superclass, each with their own supertypes. */
+    private static <F> F lookup(final Function<Class<?>, F> registered, final Class<?> klass) {
+        final F function = registered.apply(klass);
         if (function != null){
             return function;
         }
-        final Class[] interfaces = klass.getInterfaces();
-        for (final Class interFace : interfaces) {
-            final Function f = lookup(map, interFace);
+        for (final Class<?> interFace : klass.getInterfaces()) {
+            final F f = lookup(registered, interFace);
             if (f != null) {
                 return f;
             }
         }
-        final Class superclass = klass.getSuperclass();
+        final Class<?> superclass = klass.getSuperclass();
         if (superclass != null) {
-            return lookup(map, superclass);
+            return lookup(registered, superclass);
         }
         return null;
     }
@@ -0,0 +1,31 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentatts;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>Immutable, thread-safe result of {@link FluentAttributeMatcher#compile()}.</p>
+ * <p>Runs each evaluation on a fresh {@link FluentAttributeMatcher} from the frozen expectations.
+ * An enclosing {@link FluentAttributeMatcher} recurses into the calling thread's last mismatch
+ * and lets go of it (and of the nested mismatches) once it's described.</p>
+ */
+class CompiledAttributeMatcher<T> extends CompiledMatcher<T, FluentAttributeMatcher<T>> {
+
+    CompiledAttributeMatcher(final Supplier<FluentAttributeMatcher<T>> contexts) {
+        super(contexts);
+    }
+
+    /* Lets go of the calling thread's last mismatch, once an enclosing matcher has described it. */
+    void release() {
+        final FluentAttributeMatcher<T> context = releaseContext();
+        if (context != null) {
+            context.releaseNested();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentatts;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+import org.objecttrouve.testing.matchers.api.ScorableMatcher;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>Base of the immutable, thread-safe matchers compiled from a fluent matcher.</p>
+ * <p>Runs each evaluation on a fresh context matcher.
+ * The context of a mismatch is kept per thread until the mismatch is described,
+ * so a pooled thread doesn't hold on to the last <i>actual</i> object.
+ * After that (or after a match), only the score remains for {@code getScore()}.</p>
+ *
+ * @param <T> Type of the actual object.
+ * @param <M> Type of the context matcher.
+ */
+public abstract class CompiledMatcher<T, M extends Matcher<T> & ScorableMatcher> extends TypeSafeMatcher<T> implements ScorableMatcher {
+
+    private final Supplier<M> contexts;
+    private final M template;
+    private final ThreadLocal<M> lastContext = new ThreadLocal<>();
+    private final ThreadLocal<Double> lastScore = new ThreadLocal<>();
+
+    /**
+     * @param contexts Supplier of fresh context matchers. Each of them must be set up the same way.
+     */
+    protected CompiledMatcher(final Supplier<M> contexts) {
+        this.contexts = contexts;
+        this.template = contexts.get();
+    }
+
+    @Override
+    protected boolean matchesSafely(final T item) {
+        final M context = contexts.get();
+        final boolean matched = context.matches(item);
+        lastScore.remove();
+        if (matched) {
+            lastContext.remove();
+        } else {
+            lastContext.set(context);
+        }
+        return matched;
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        template.describeTo(description);
+    }
+
+    @Override
+    protected void describeMismatchSafely(final T item, final Description mismatchDescription) {
+        final M last = lastContext.get();
+        final M context = last != null ? last : contexts.get();
+        context.describeMismatch(item, mismatchDescription);
+        lastContext.remove();
+        lastScore.set(context.getScore());
+    }
+
+    @Override
+    public double getScore() {
+        final M context = lastContext.get();
+        if (context != null) {
+            return context.getScore();
+        }
+        final Double score = lastScore.get();
+        return score != null ? score : template.getScore();
+    }
+
+    @Override
+    public double score(final Object item) {
+        return template.score(item);
+    }
+
+    /* The calling thread's last mismatch. A fresh context, if that's been let go of already. */
+    M context() {
+        M context = lastContext.get();
+        if (context == null) {
+            context = contexts.get();
+            lastContext.set(context);
+        }
+        return context;
+    }
+
+    /* Lets go of the calling thread's last mismatch, keeping its score. Returns it, if there was one. */
+    M releaseContext() {
+        final M context = lastContext.get();
+        if (context != null) {
+            lastContext.remove();
+            lastScore.set(context.getScore());
+        }
+        return context;
+    }
+}
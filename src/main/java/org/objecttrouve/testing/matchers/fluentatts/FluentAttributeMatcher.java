@@ -13,14 +13,13 @@ import org.hamcrest.TypeSafeMatcher;
 import org.objecttrouve.testing.matchers.api.Config;
 import org.objecttrouve.testing.matchers.api.ScorableMatcher;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
-import static org.objecttrouve.testing.matchers.fluentatts.Scorer.score;
-
 /**
  * <p>
  * A {@code org.hamcrest.TypeSafeMatcher} implementation
@@ -109,6 +108,10 @@ public class FluentAttributeMatcher<T> extends TypeSafeMatcher<T> implements Sco
 
     private final List<Expectation<T, ?>> expectations = new LinkedList<>();
     private final List<Result> results = new LinkedList<>();
+    // The item that failed the last matchesSafely() call and the number of expectations at that time,
+    // until its mismatch is described.
+    private Object evaluated;
+    private int nrOfEvaluatedExpectations;
     private final Prose prose;
     private boolean debugging;
 
@@ -126,6 +129,11 @@ public class FluentAttributeMatcher<T> extends TypeSafeMatcher<T> implements Sco
         this.prose = prose;
     }
 
+    private FluentAttributeMatcher(final Prose prose, final List<Expectation<T, ?>> expectations) {
+        this(prose);
+        this.expectations.addAll(expectations);
+    }
+
     /**
      * <p>Builder method to formulate an expectation about a particular property of an <i>actual</i> {@code Object}.</p>
      * <p>If the  {@code expectedValue} is a {@code org.hamcrest.Matcher},
@@ -183,7 +191,49 @@ public class FluentAttributeMatcher<T> extends TypeSafeMatcher<T> implements Sco
      */
     @Override
     public double getScore() {
-        return score((expectations.size()-results.size()), expectations.size());
+        return Scorer.score((expectations.size()-results.size()), expectations.size());
+    }
+
+    /**
+     * <p>Same as {@link #getScore()} after {@code matches(item)}, but leaves the last evaluation as it is.</p>
+     * <p>Nested {@code ScorableMatcher}s are asked for their {@code score(Object)} rather than applied.
+     * A score of 1 counts as a match.
+     * Other nested {@code Matcher}s are applied as usual,
+     * so they must be thread-safe themselves (as Hamcrest's own matchers are)
+     * if this method is called from different threads.</p>
+     * @param item The <i>actual</i> {@code Object}.
+     * @return Value between 0 and 1.
+     */
+    @Override
+    public double score(final Object item) {
+        if (item == null) {
+            return 0.0;
+        }
+        // Like in matchesSafely(), getters that don't fit the item throw a ClassCastException.
+        @SuppressWarnings("unchecked")
+        final T actual = (T) item;
+        int mismatches = 0;
+        for (final Expectation<T, ?> exp : expectations) {
+            mismatches += nrOfMismatches(actual, exp);
+        }
+        return Scorer.score((expectations.size() - mismatches), expectations.size());
+    }
+
+    /* As many as matchesSafely() collects results for the expectation. */
+    private static <T, O> int nrOfMismatches(final T item, final Expectation<T, O> exp) {
+        int mismatches = 0;
+        O actual;
+        try {
+            actual = exp.getGetter().apply(item);
+        } catch (final ClassCastException e) {
+            actual = null;
+            mismatches++;
+        }
+        final Matcher matcher = exp.getMatcher();
+        final boolean matched = matcher instanceof ScorableMatcher
+            ? ((ScorableMatcher) matcher).score(actual) == 1.0
+            : exp.getExpectation().test(actual);
+        return matched ? mismatches : mismatches + 1;
     }
 
     /**
@@ -197,6 +247,40 @@ public class FluentAttributeMatcher<T> extends TypeSafeMatcher<T> implements Sco
         return this;
     }
 
+    /**
+     * <p>Freezes the expectations into an immutable {@code Matcher} that can be shared between threads.</p>
+     * <p>Each evaluation gets its own context holding the state of that evaluation.
+     * So the compiled {@code Matcher} can live in a {@code static final} field
+     * and be used by tests running in parallel.
+     * Nested {@code FluentAttributeMatcher}s are compiled as well.
+     * Other {@code Matcher}s are shared by all evaluations and must be thread-safe themselves
+     * (for example, compiled before being passed in).</p>
+     * <p>{@code describeMismatch()} and {@code getScore()} refer to the last evaluation in the calling thread.
+     * Later changes to this {@code FluentAttributeMatcher} don't affect the compiled {@code Matcher}.</p>
+     *
+     * @return Immutable, thread-safe {@code Matcher}.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public Matcher<T> compile() {
+        final List<Expectation<T, ?>> plan = new ArrayList<>(expectations.size());
+        for (final Expectation<T, ?> expectation : expectations) {
+            plan.add(compiled(expectation));
+        }
+        final Prose prose = this.prose;
+        final boolean debugging = this.debugging;
+        return new CompiledAttributeMatcher<>(() -> new FluentAttributeMatcher<T>(prose, plan).debugging(debugging));
+    }
+
+    private static <T, O> Expectation<T, O> compiled(final Expectation<T, O> expectation) {
+        final Matcher matcher = expectation.getMatcher();
+        if (!(matcher instanceof FluentAttributeMatcher)) {
+            return expectation;
+        }
+        @SuppressWarnings("unchecked") // Registered as a Matcher<O>.
+        final Matcher<O> compiled = ((FluentAttributeMatcher<O>) matcher).compile();
+        return new Expectation<>(expectation.getDescription(), expectation.getGetter(), compiled::matches, null, compiled);
+    }
+
     @Override
     protected boolean matchesSafely(final T item) {
         reset();
@@ -206,11 +290,26 @@ public class FluentAttributeMatcher<T> extends TypeSafeMatcher<T> implements Sco
                 results.add(result);
             }
         }
+        evaluated = results.isEmpty() ? null : item;
+        nrOfEvaluatedExpectations = expectations.size();
         return results.isEmpty();
     }
 
     private void reset() {
         results.clear();
+        evaluated = null;
+    }
+
+    /*
+     * Reuses the results only for the mismatch description that directly follows
+     * a failed matchesSafely() call on the very same item (with no expectation added since),
+     * so that the description is about the state the verdict was based on.
+     * Otherwise the item is evaluated afresh.
+     */
+    private void evaluate(final T item) {
+        if (item == null || item != evaluated || expectations.size() != nrOfEvaluatedExpectations) {
+            matchesSafely(item);
+        }
     }
 
 
@@ -243,13 +342,24 @@ public class FluentAttributeMatcher<T> extends TypeSafeMatcher<T> implements Sco
 
     @Override
     protected void describeMismatchSafely(final T item, final Description mismatchDescription) {
-        matchesSafely(item);
+        evaluate(item);
         describeMismatchSafely(mismatchDescription, false);
         if (debugging) {
             mismatchDescription.appendText("\n\nDEBUG:\n\n");
             describeMismatchSafely(mismatchDescription, debugging);
             prose.debug(item, mismatchDescription);
         }
+        evaluated = null;
+        releaseNested();
+    }
+
+    /* Nested compiled matchers keep the calling thread's last mismatch only until it's described. */
+    void releaseNested() {
+        for (final Expectation<T, ?> expectation : expectations) {
+            if (expectation.getMatcher() instanceof CompiledAttributeMatcher) {
+                ((CompiledAttributeMatcher<?>) expectation.getMatcher()).release();
+            }
+        }
     }
 
     private void describeMismatchSafely(final Description mismatchDescription, final boolean inDebugMode) {
@@ -262,9 +372,8 @@ public class FluentAttributeMatcher<T> extends TypeSafeMatcher<T> implements Sco
         final List<Stream<String>> allTails = new LinkedList<>();
         for (final Expectation<T, ?> expectation : expectations) {
             if(expectation.isAboutMatcher()){
-                final Matcher matcher = expectation.getMatcher();
-                if (matcher instanceof FluentAttributeMatcher) {
-                    final FluentAttributeMatcher flam = (FluentAttributeMatcher) matcher;
+                final FluentAttributeMatcher flam = nested(expectation.getMatcher());
+                if (flam != null) {
                     //noinspection unchecked
                     final List<Stream<String>> tails = flam.recurseTheExpectations();
                     tails.forEach(tail -> {
@@ -288,11 +397,10 @@ public class FluentAttributeMatcher<T> extends TypeSafeMatcher<T> implements Sco
         for (final Result result : results) {
             final Expectation expectation = result.getExpectation();
             if (expectation.isAboutMatcher()){
-                final Matcher matcher = expectation.getMatcher();
-                if (matcher instanceof FluentAttributeMatcher){
-                    final FluentAttributeMatcher flam = (FluentAttributeMatcher) matcher;
+                final FluentAttributeMatcher flam = nested(expectation.getMatcher());
+                if (flam != null){
                     //noinspection unchecked
-                    flam.matchesSafely(result.getActual());
+                    flam.evaluate(result.getActual());
                     //noinspection unchecked
                     final List<Stream<String>> tails = flam.recurseTheMismatch(flam.debugging);
                     tails.forEach(tail -> {
@@ -312,6 +420,17 @@ public class FluentAttributeMatcher<T> extends TypeSafeMatcher<T> implements Sco
     }
 
 
+    /* The FluentAttributeMatcher to recurse into, for a compiled one the calling thread's context. */
+    private static FluentAttributeMatcher nested(final Matcher matcher) {
+        if (matcher instanceof FluentAttributeMatcher) {
+            return (FluentAttributeMatcher) matcher;
+        }
+        if (matcher instanceof CompiledAttributeMatcher) {
+            return ((CompiledAttributeMatcher<?>) matcher).context();
+        }
+        return null;
+    }
+
     private <O> void check(final Attribute<T, O> attribute) {
         if (attribute == null) {
             throw new IllegalArgumentException("Please provide a non-null " + Attribute.class.getSimpleName() + ".");
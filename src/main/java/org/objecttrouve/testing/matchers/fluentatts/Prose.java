@@ -17,7 +17,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @SuppressWarnings({"Convert2streamapi", "rawtypes"})
@@ -69,7 +68,18 @@ class Prose {
     }
 
     private static String handleNewLines(final String s) {
-        return s.replaceAll("\n", "\t\n");
+        int newLine = s.indexOf('\n');
+        if (newLine < 0) {
+            return s;
+        }
+        final StringBuilder handled = new StringBuilder(s.length() + 16);
+        int start = 0;
+        while (newLine >= 0) {
+            handled.append(s, start, newLine).append("\t\n");
+            start = newLine + 1;
+            newLine = s.indexOf('\n', start);
+        }
+        return handled.append(s, start, s.length()).toString();
     }
 
     private String stringify(final Object actual, final boolean debugging) {
@@ -134,7 +144,7 @@ class Prose {
     static void join(final List<Stream<String>> mismatches, final Description mismatchDescription) {
        mismatches.forEach(mism -> {
            mismatchDescription.appendText("\n\t");
-           mismatchDescription.appendText(mism.collect(Collectors.joining()));
+           mism.forEach(mismatchDescription::appendText);
        });
        mismatchDescription.appendText("\n");
     }
@@ -0,0 +1,127 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.objecttrouve.testing.matchers.api.Symbols;
+
+/**
+ * <p>Fixed-width text cells of the item lines in a mismatch description,
+ * appended to a {@code StringBuilder} without {@code String.format} or regular expressions.</p>
+ * <p>Renders exactly the same text as the format patterns noted per method.
+ * Lengths are counted in {@code char}s like {@code java.util.Formatter} does.</p>
+ */
+class Cells {
+
+    private static final int symbolWidth = 2;
+    private static final String spaces = "                                ";
+
+    final String matches;
+    final String notMatches;
+    final String pairedWith;
+    final String badSortOrder;
+    final String badItemOrder;
+    final String duplicate;
+    final String unwanted;
+    final String blank;
+
+    Cells(final Symbols symbols) {
+        this.matches = symbolCell(symbols.getIterableItemMatchesSymbol());
+        this.notMatches = symbols.getIterableItemNotMatchesSymbol();
+        this.pairedWith = symbols.getIterableItemMatchesSymbol();
+        this.badSortOrder = symbolCell(symbols.getIterableItemBadSortOrderSymbol());
+        this.badItemOrder = symbolCell(symbols.getIterableItemBadItemOrderSymbol());
+        this.duplicate = symbolCell(symbols.getIterableItemDuplicateSymbol());
+        this.unwanted = symbolCell(symbols.getIterableItemUnwantedSymbol());
+        this.blank = symbolCell(" ");
+    }
+
+    /* format("%1$-2.2s", symbol) */
+    private static String symbolCell(final String symbol) {
+        final StringBuilder cell = new StringBuilder(symbolWidth);
+        appendLeftAligned(cell, symbol, 0, symbol.length(), symbolWidth);
+        return cell.toString();
+    }
+
+    /* Number of digits of the greatest index, as the index column is as wide as the collection's length. */
+    static int indexWidth(final int collectionLength) {
+        return Double.valueOf(Math.log10(collectionLength)).intValue() + 1;
+    }
+
+    /* format("%1$" + width + "." + width + "s", index) */
+    static void appendIndex(final StringBuilder line, final int index, final int width) {
+        final String digits = Integer.toString(index);
+        final int length = Math.min(digits.length(), width);
+        appendSpaces(line, width - length);
+        line.append(digits, 0, length);
+    }
+
+    /* format("%1$-" + width + "." + width + "s", str) */
+    static void appendLeftAligned(final StringBuilder line, final String str, final int start, final int end, final int width) {
+        final int length = Math.min(end - start, width);
+        line.append(str, start, start + length);
+        appendSpaces(line, width - length);
+    }
+
+    /* format("%1$-" + width + "." + width + "s", linified(str)) */
+    static void appendLinified(final StringBuilder line, final String str, final int width) {
+        final int written = linify(line, str, width);
+        appendSpaces(line, width - written);
+    }
+
+    /* str.trim().replaceAll("\n", "; ").replaceAll("\\s+", " ") */
+    static void appendLinified(final StringBuilder line, final String str) {
+        linify(line, str, Integer.MAX_VALUE);
+    }
+
+    private static int linify(final StringBuilder line, final String str, final int max) {
+        int start = 0;
+        int end = str.length();
+        while (start < end && str.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && str.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int written = 0;
+        boolean inWhitespace = false;
+        for (int k = start; k < end && written < max; k++) {
+            final char c = str.charAt(k);
+            if (c == '\n') {
+                line.append(';');
+                written++;
+                if (written < max) {
+                    line.append(' ');
+                    written++;
+                }
+                inWhitespace = true;
+            } else if (isWhitespace(c)) {
+                if (!inWhitespace) {
+                    line.append(' ');
+                    written++;
+                }
+                inWhitespace = true;
+            } else {
+                line.append(c);
+                written++;
+                inWhitespace = false;
+            }
+        }
+        return written;
+    }
+
+    /* What \s matches in a java.util.regex.Pattern without flags. */
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static void appendSpaces(final StringBuilder line, final int count) {
+        for (int remaining = count; remaining > 0; remaining -= spaces.length()) {
+            line.append(spaces, 0, Math.min(remaining, spaces.length()));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.objecttrouve.testing.matchers.fluentatts.CompiledMatcher;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>Immutable, thread-safe result of {@link FluentIterableMatcher#compile()}.</p>
+ * <p>Runs each evaluation on a fresh {@link FluentIterableMatcher} from the frozen settings,
+ * so the item results and match matrix of one actual collection never leak into another one's.</p>
+ */
+class CompiledIterableMatcher<X, C extends Iterable<X>> extends CompiledMatcher<C, FluentIterableMatcher<X, C>> {
+
+    CompiledIterableMatcher(final Supplier<FluentIterableMatcher<X, C>> contexts) {
+        super(contexts);
+    }
+}
@@ -26,6 +26,10 @@ class EqTo<T> extends IsEqual<T> {
         this.debugging = debugging;
     }
 
+    T getExpectedValue() {
+        return equalArg;
+    }
+
     @Override
     public void describeTo(final Description description) {
         description.appendText("<" + getStringifier(equalArg).apply(equalArg) + ">");
@@ -0,0 +1,81 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.Matcher;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>Hash index over the {@link EqTo} expectations, mapping each expected value to the indices of all expectations with that value.</p>
+ * <p>Lets the {@link FluentIterableMatcher} look up the expectations equal to an actual item in O(1)
+ * instead of applying every expectation to every item.</p>
+ * <p>Arrays are compared by content by {@code EqTo} and therefore aren't indexed.</p>
+ */
+@SuppressWarnings("rawtypes")
+class EqualityIndex {
+
+    private static final int[] none = new int[0];
+
+    private final Map<Object, int[]> expectationsByValue = new HashMap<>();
+    private final int[] unindexed;
+
+    EqualityIndex(final Matcher[] expectations) {
+        final Map<Object, int[]> counts = new HashMap<>();
+        final int[] unindexed = new int[expectations.length];
+        int nrOfUnindexed = 0;
+        for (int i = 0; i < expectations.length; i++) {
+            if (isIndexable(expectations[i])) {
+                counts.computeIfAbsent(valueOf(expectations[i]), v -> new int[1])[0]++;
+            } else {
+                unindexed[nrOfUnindexed++] = i;
+            }
+        }
+        for (int i = 0; i < expectations.length; i++) {
+            if (isIndexable(expectations[i])) {
+                final Object value = valueOf(expectations[i]);
+                final int[] count = counts.get(value);
+                final int[] indices = expectationsByValue.computeIfAbsent(value, v -> new int[count[0]]);
+                indices[indices.length - count[0]--] = i;
+            }
+        }
+        this.unindexed = Arrays.copyOf(unindexed, nrOfUnindexed);
+    }
+
+    private static Object valueOf(final Matcher expectation) {
+        return ((EqTo) expectation).getExpectedValue();
+    }
+
+    private static boolean isIndexable(final Matcher expectation) {
+        if (!(expectation instanceof EqTo)) {
+            return false;
+        }
+        final Object value = valueOf(expectation);
+        return value == null || !value.getClass().isArray();
+    }
+
+    /**
+     * @param item Actual item.
+     * @return Indices of the indexed expectations equal to the {@code item}. (In ascending order.)
+     */
+    int[] expectationsEqualTo(final Object item) {
+        if (item != null && item.getClass().isArray()) {
+            return none;
+        }
+        return expectationsByValue.getOrDefault(item, none);
+    }
+
+    /**
+     * @return Indices of the expectations that need to be applied to every item. (In ascending order.)
+     */
+    int[] unindexed() {
+        return unindexed;
+    }
+}
@@ -26,7 +26,7 @@ public class FlimFactory {
      * @return FluentIterableMatcher.
      */
     public static <X, C extends Iterable<X>> FluentIterableMatcher<X, C> fluentIterableMatcher(final Class<X> klass, final Config config){
-        final Prose<X> prose = new Prose<>(config.getSymbols(), config.getStringifiers());
+        final Prose<X> prose = new Prose<>(config);
         return new FluentIterableMatcher<X, C>(klass, prose, config).debugging(config.isInDebugMode());
     }
 
@@ -41,10 +41,34 @@ public class FlimFactory {
      * @return FluentIterableMatcher.
      */
     public static <X, C extends Iterable<X>> FluentIterableMatcher<X, C> fluentIterableMatcherLike(@SuppressWarnings("unused") final C iterable, final Config config){
-        final Prose<X> prose = new Prose<>(config.getSymbols(), config.getStringifiers());
+        final Prose<X> prose = new Prose<>(config);
         return new FluentIterableMatcher<X, C>(null, prose, config).debugging(config.isInDebugMode());
     }
 
+    /**
+     * <p>Factory method for a {@link FluentArrayMatcher}
+     * to match an <i>actual</i> array's properties.</p>
+     *
+     * @param <X> Expected type of the actual array's items.
+     * @param klass The expected class of the actual array's items.
+     * @param config The {@link Config} to apply to the matcher.
+     * @return FluentArrayMatcher.
+     */
+    public static <X> FluentArrayMatcher<X> fluentArrayMatcher(final Class<X> klass, final Config config){
+        if (klass == null) {
+            throw new IllegalArgumentException("Please provide the class of the array's items.");
+        }
+        if (klass.isPrimitive()) {
+            throw new IllegalArgumentException(
+                "Arrays of primitive type " + klass + " aren't arrays of objects. " +
+                    "Please use the primitive array matchers instead: " +
+                    "anIntArray(), aLongArray() or aDoubleArray()."
+            );
+        }
+        final Prose<X> prose = new Prose<>(config);
+        return new FluentArrayMatcher<>(klass, prose, config).debugging(config.isInDebugMode());
+    }
+
     /**
      * <p>Factory method for a {@link FluentMapMatcher}
      * to match an <i>actual</i> {@code Map}'s properties.</p>
@@ -69,8 +93,41 @@ public class FlimFactory {
      * @return FluentMapMatcher.
      */
     public static <K, V> FluentMapMatcher<K, V> aMapLike(final Map<K, V> map, final Config config){
-        final Prose<Map.Entry<K, V>> prose = new Prose<>(config.getSymbols(), config.getStringifiers());
+        final Prose<Map.Entry<K, V>> prose = new Prose<>(config);
         return new FluentMapMatcher<>(map, prose, config).debugging(config.isInDebugMode());
     }
 
+    /**
+     * <p>Factory method for a {@link FluentIntArrayMatcher}
+     * to match an <i>actual</i> {@code int[]}'s properties.</p>
+     *
+     * @param config The {@link Config} to apply to the matcher.
+     * @return FluentIntArrayMatcher.
+     */
+    public static FluentIntArrayMatcher fluentIntArrayMatcher(final Config config){
+        return new FluentIntArrayMatcher(new Prose<>(config), config).debugging(config.isInDebugMode());
+    }
+
+    /**
+     * <p>Factory method for a {@link FluentLongArrayMatcher}
+     * to match an <i>actual</i> {@code long[]}'s properties.</p>
+     *
+     * @param config The {@link Config} to apply to the matcher.
+     * @return FluentLongArrayMatcher.
+     */
+    public static FluentLongArrayMatcher fluentLongArrayMatcher(final Config config){
+        return new FluentLongArrayMatcher(new Prose<>(config), config).debugging(config.isInDebugMode());
+    }
+
+    /**
+     * <p>Factory method for a {@link FluentDoubleArrayMatcher}
+     * to match an <i>actual</i> {@code double[]}'s properties.</p>
+     *
+     * @param config The {@link Config} to apply to the matcher.
+     * @return FluentDoubleArrayMatcher.
+     */
+    public static FluentDoubleArrayMatcher fluentDoubleArrayMatcher(final Config config){
+        return new FluentDoubleArrayMatcher(new Prose<>(config), config).debugging(config.isInDebugMode());
+    }
+
 }
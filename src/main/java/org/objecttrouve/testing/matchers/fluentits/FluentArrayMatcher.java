@@ -0,0 +1,261 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+import org.objecttrouve.testing.matchers.api.Config;
+import org.objecttrouve.testing.matchers.api.ScorableMatcher;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * A {@code org.hamcrest.TypeSafeMatcher} implementation
+ * to check multiple characteristics of an <i>actual</i> array
+ * at the same time.
+ * </p>
+ * <p>Offers the same fluent API as the {@link FluentIterableMatcher}.
+ * The array's items are indexed in place rather than copied.</p>
+ */
+@SuppressWarnings("rawtypes")
+public class FluentArrayMatcher<X> extends TypeSafeMatcher<X[]> implements ScorableMatcher {
+
+    private final FluentIterableMatcher<X, List<X>> delegate;
+    private X[] lastArray;
+    private List<X> lastItems;
+
+    FluentArrayMatcher(final Class<X> klass, final Prose<X> prose, final Config config) {
+        super(Array.newInstance(klass, 0).getClass());
+        this.delegate = new FluentIterableMatcher<>(klass, prose, config);
+    }
+
+    /**
+     * <p>Sets the expected number of items in the <i>actual</i> array.</p>
+     *
+     * @param expectedSize The expected number of items in the array.
+     * @return The {@code FluentArrayMatcher} instance on which the method was called.
+     * @see FluentIterableMatcher#ofSize(int)
+     */
+    public FluentArrayMatcher<X> ofSize(final int expectedSize) {
+        delegate.ofSize(expectedSize);
+        return this;
+    }
+
+    /**
+     * <p>Expect the array to be sorted in the natural item order.</p>
+     *
+     * @return The {@code FluentArrayMatcher} instance on which the method was called.
+     * @see FluentIterableMatcher#sorted()
+     */
+    public FluentArrayMatcher<X> sorted() {
+        delegate.sorted();
+        return this;
+    }
+
+    /**
+     * <p>Expect the array to be sorted according to the order defined by the {@code comparator}.</p>
+     *
+     * @param comparator {@code Comparator} defining how the array's items should be sorted.
+     * @return The {@code FluentArrayMatcher} instance on which the method was called.
+     * @see FluentIterableMatcher#sorted(java.util.Comparator)
+     */
+    public FluentArrayMatcher<X> sorted(final Comparator<X> comparator) {
+        delegate.sorted(comparator);
+        return this;
+    }
+
+    /**
+     * <p>Expect the array's items to be in the same order as the expected items.</p>
+     *
+     * @return The {@code FluentArrayMatcher} instance on which the method was called.
+     * @see FluentIterableMatcher#ordered()
+     */
+    public FluentArrayMatcher<X> ordered() {
+        delegate.ordered();
+        return this;
+    }
+
+    /**
+     * <p>Adds {@code Matcher}s for the array's items.</p>
+     *
+     * @param expectedItemMatchers {@code Matcher}s to be applied to the array's items.
+     * @return The {@code FluentArrayMatcher} instance on which the method was called.
+     * @see FluentIterableMatcher#withItemsMatching(org.hamcrest.Matcher[])
+     */
+    public final FluentArrayMatcher<X> withItemsMatching(final Matcher... expectedItemMatchers) {
+        delegate.withItemsMatching(expectedItemMatchers);
+        return this;
+    }
+
+    /**
+     * <p>Adds expected values for the array's items.</p>
+     *
+     * @param expectedItems Values expected to be contained in the array.
+     * @return The {@code FluentArrayMatcher} instance on which the method was called.
+     * @see FluentIterableMatcher#withItems(java.lang.Object[])
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // The delegate only reads the items, as this method does.
+    public final FluentArrayMatcher<X> withItems(final X... expectedItems) {
+        delegate.withItems(expectedItems);
+        return this;
+    }
+
+    /**
+     * <p>Expect the array to have <i>only</i> the expected items.</p>
+     *
+     * @return The {@code FluentArrayMatcher} instance on which the method was called.
+     * @see FluentIterableMatcher#exactly()
+     */
+    public FluentArrayMatcher<X> exactly() {
+        delegate.exactly();
+        return this;
+    }
+
+    /**
+     * <p>Expect items in the array to be unique by {@code equals} and {@code hashCode}.</p>
+     *
+     * @return The {@code FluentArrayMatcher} instance on which the method was called.
+     * @see FluentIterableMatcher#unique()
+     */
+    public FluentArrayMatcher<X> unique() {
+        delegate.unique();
+        return this;
+    }
+
+    /**
+     * <p>Expect items in the array to be unique according to the {@code equator}.</p>
+     *
+     * @param equator Tells whether two items are equal.
+     * @return The {@code FluentArrayMatcher} instance on which the method was called.
+     * @see FluentIterableMatcher#unique(java.util.function.BiPredicate)
+     */
+    public FluentArrayMatcher<X> unique(final BiPredicate<X, X> equator) {
+        delegate.unique(equator);
+        return this;
+    }
+
+    /**
+     * <p>Expect items in the array to be unique by the given key.</p>
+     *
+     * @param key Extracts the key that must be unique.
+     * @param <K> Type of the key.
+     * @return The {@code FluentArrayMatcher} instance on which the method was called.
+     * @see FluentIterableMatcher#uniqueBy(java.util.function.Function)
+     */
+    public <K> FluentArrayMatcher<X> uniqueBy(final Function<X, K> key) {
+        delegate.uniqueBy(key);
+        return this;
+    }
+
+    /**
+     * <p>Expect no two items in the array to be equal according to the {@code comparator}.</p>
+     *
+     * @param comparator Items comparing as {@code 0} are duplicates.
+     * @return The {@code FluentArrayMatcher} instance on which the method was called.
+     * @see FluentIterableMatcher#uniqueByOrder(java.util.Comparator)
+     */
+    public FluentArrayMatcher<X> uniqueByOrder(final Comparator<X> comparator) {
+        delegate.uniqueByOrder(comparator);
+        return this;
+    }
+
+    /**
+     * <p>In the mismatch description, pair each unmatched item with one unfulfilled expectation of its own.</p>
+     *
+     * @return The {@code FluentArrayMatcher} instance on which the method was called.
+     * @see FluentIterableMatcher#paired()
+     */
+    public FluentArrayMatcher<X> paired() {
+        delegate.paired();
+        return this;
+    }
+
+    /**
+     * <p>Apply the item {@code Matcher}s in parallel.</p>
+     *
+     * @return The {@code FluentArrayMatcher} instance on which the method was called.
+     * @see FluentIterableMatcher#parallel()
+     */
+    public FluentArrayMatcher<X> parallel() {
+        delegate.parallel();
+        return this;
+    }
+
+    /**
+     * <p>Apply the item {@code Matcher}s in parallel from the given amount of work.</p>
+     *
+     * @param threshold Minimum number of {@code Matcher} applications to go parallel.
+     * @return The {@code FluentArrayMatcher} instance on which the method was called.
+     * @see FluentIterableMatcher#parallel(long)
+     */
+    public FluentArrayMatcher<X> parallel(final long threshold) {
+        delegate.parallel(threshold);
+        return this;
+    }
+
+    /**
+     * <p>Turn on debug mode for more detailed output.</p>
+     *
+     * @return The {@code FluentArrayMatcher} instance on which the method was called.
+     */
+    public FluentArrayMatcher<X> debugging() {
+        delegate.debugging();
+        return this;
+    }
+
+    FluentArrayMatcher<X> debugging(final boolean inDebugMode) {
+        delegate.debugging(inDebugMode);
+        return this;
+    }
+
+    @Override
+    public double getScore() {
+        return delegate.getScore();
+    }
+
+    @Override
+    public double score(final Object item) {
+        return item instanceof Object[] ? delegate.score(Arrays.asList((Object[]) item)) : 0.0;
+    }
+
+    @Override
+    protected boolean matchesSafely(final X[] array) {
+        return delegate.matchesSafely(itemsOf(array));
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        delegate.describeTo(description);
+    }
+
+    @Override
+    protected void describeMismatchSafely(final X[] array, final Description mismatchDescription) {
+        delegate.describeMismatchSafely(itemsOf(array), mismatchDescription);
+    }
+
+    /* Same view for the same array, so that the delegate recognizes its last evaluation. */
+    private List<X> itemsOf(final X[] array) {
+        if (array != lastArray) {
+            lastArray = array;
+            lastItems = Arrays.asList(array);
+        }
+        return lastItems;
+    }
+
+    List<ItemResult> getItemResults() {
+        return delegate.getItemResults();
+    }
+}
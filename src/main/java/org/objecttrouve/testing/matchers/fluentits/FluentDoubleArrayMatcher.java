@@ -0,0 +1,95 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.Matcher;
+import org.objecttrouve.testing.matchers.api.Config;
+
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+
+/**
+ * <p>
+ * A {@link FluentPrimitiveArrayMatcher} for {@code double[]}.
+ * </p>
+ * <p>Example:</p>
+ * <pre>
+ * <code>
+ *  assertThat(values, is(
+ *      aDoubleArray()
+ *          .sorted()
+ *          .unique()
+ *          .withItems(0.5, 1.0, 1.5)
+ *  ));
+ * </code>
+ * </pre>
+ */
+public class FluentDoubleArrayMatcher extends FluentPrimitiveArrayMatcher<double[], FluentDoubleArrayMatcher> {
+
+    FluentDoubleArrayMatcher(final Prose<Object> prose, final Config config) {
+        super(new double[0], prose, config);
+    }
+
+    /**
+     * <p>Adds expected values.</p>
+     * <p>For each expected value, there must be at least one equal value in the <i>actual</i> array.
+     * Values are compared like {@code Double.compare()} does,
+     * so {@code NaN} equals {@code NaN} and {@code -0.0} is less than {@code 0.0}.</p>
+     *
+     * @param expectedItems Expected values.
+     * @return The {@code FluentDoubleArrayMatcher} instance on which the method was called.
+     */
+    public FluentDoubleArrayMatcher withItems(final double... expectedItems) {
+        return withExpected(expectedItems);
+    }
+
+    /**
+     * <p>A {@code Matcher} applying the same checks to the values of a {@code DoubleStream}.</p>
+     * <p>The {@code DoubleStream} is consumed by {@code matches()}.
+     * {@code describeMismatch()} reuses the values collected from the very same {@code DoubleStream} instance.</p>
+     *
+     * @return {@code Matcher} for a {@code DoubleStream}.
+     */
+    public Matcher<DoubleStream> forStream() {
+        return new PrimitiveStreamMatcher<>(DoubleStream.class, DoubleStream::toArray, this);
+    }
+
+    @Override
+    int length(final double[] array) {
+        return array.length;
+    }
+
+    @Override
+    int compare(final double[] array1, final int index1, final double[] array2, final int index2) {
+        return Double.compare(array1[index1], array2[index2]);
+    }
+
+    @Override
+    long bits(final double[] array, final int index) {
+        return Double.doubleToLongBits(array[index]);
+    }
+
+    @Override
+    double[] sortedCopy(final double[] array) {
+        final double[] copy = array.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Override
+    double[] concat(final double[] array1, final double[] array2) {
+        final double[] both = Arrays.copyOf(array1, array1.length + array2.length);
+        System.arraycopy(array2, 0, both, array1.length, array2.length);
+        return both;
+    }
+
+    @Override
+    Object valueAt(final double[] array, final int index) {
+        return array[index];
+    }
+}
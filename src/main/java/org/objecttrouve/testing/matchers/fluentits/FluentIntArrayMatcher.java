@@ -0,0 +1,93 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.Matcher;
+import org.objecttrouve.testing.matchers.api.Config;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * A {@link FluentPrimitiveArrayMatcher} for {@code int[]}.
+ * </p>
+ * <p>Example:</p>
+ * <pre>
+ * <code>
+ *  assertThat(values, is(
+ *      anIntArray()
+ *          .sorted()
+ *          .unique()
+ *          .withItems(1, 2, 3)
+ *  ));
+ * </code>
+ * </pre>
+ */
+public class FluentIntArrayMatcher extends FluentPrimitiveArrayMatcher<int[], FluentIntArrayMatcher> {
+
+    FluentIntArrayMatcher(final Prose<Object> prose, final Config config) {
+        super(new int[0], prose, config);
+    }
+
+    /**
+     * <p>Adds expected values.</p>
+     * <p>For each expected value, there must be at least one equal value in the <i>actual</i> array.</p>
+     *
+     * @param expectedItems Expected values.
+     * @return The {@code FluentIntArrayMatcher} instance on which the method was called.
+     */
+    public FluentIntArrayMatcher withItems(final int... expectedItems) {
+        return withExpected(expectedItems);
+    }
+
+    /**
+     * <p>A {@code Matcher} applying the same checks to the values of a {@code IntStream}.</p>
+     * <p>The {@code IntStream} is consumed by {@code matches()}.
+     * {@code describeMismatch()} reuses the values collected from the very same {@code IntStream} instance.</p>
+     *
+     * @return {@code Matcher} for a {@code IntStream}.
+     */
+    public Matcher<IntStream> forStream() {
+        return new PrimitiveStreamMatcher<>(IntStream.class, IntStream::toArray, this);
+    }
+
+    @Override
+    int length(final int[] array) {
+        return array.length;
+    }
+
+    @Override
+    int compare(final int[] array1, final int index1, final int[] array2, final int index2) {
+        return Integer.compare(array1[index1], array2[index2]);
+    }
+
+    @Override
+    long bits(final int[] array, final int index) {
+        return array[index];
+    }
+
+    @Override
+    int[] sortedCopy(final int[] array) {
+        final int[] copy = array.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Override
+    int[] concat(final int[] array1, final int[] array2) {
+        final int[] both = Arrays.copyOf(array1, array1.length + array2.length);
+        System.arraycopy(array2, 0, both, array1.length, array2.length);
+        return both;
+    }
+
+    @Override
+    Object valueAt(final int[] array, final int index) {
+        return array[index];
+    }
+}
@@ -8,17 +8,25 @@
 package org.objecttrouve.testing.matchers.fluentits;
 
 import static java.lang.System.arraycopy;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import static java.util.stream.Collectors.toList;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import static java.util.stream.StreamSupport.stream;
 import org.hamcrest.Description;
@@ -26,6 +34,7 @@ import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
 import org.objecttrouve.testing.matchers.api.Config;
 import org.objecttrouve.testing.matchers.api.ScorableMatcher;
+import org.objecttrouve.testing.matchers.fluentatts.FluentAttributeMatcher;
 
 /**
  * <p>
@@ -84,26 +93,55 @@ import org.objecttrouve.testing.matchers.api.ScorableMatcher;
  * }
  * </code>
  * </pre>
+ * <p>The mismatch description is written to the {@code Description} piece by piece.
+ * To dump a huge one to a file, pass {@code new StringDescription(writer)}
+ * to {@code describeMismatch()}, which writes through to any {@code Appendable}.</p>
  */
 @SuppressWarnings("rawtypes")
 public class FluentIterableMatcher<X, C extends Iterable<X>> extends TypeSafeMatcher<C> implements ScorableMatcher {
 
     private static final Finding theNullCollectionFinding = new Finding("Actual collection was null.");
+    static final Finding theUnfulfilledExpectationsFinding = new Finding("Not all expectations were fulfilled.");
+    static final Finding theUnexpectedItemsFinding = new Finding("Unexpected actual items.");
+    static final Finding theNoOneToOneFinding = new Finding("No 1:1 relationship between expectations and actual items.");
+    static final Finding theUnmatchedExpectationsFinding = new Finding("Could not find matches for all expectations.");
+    private static final Finding theUnorderedFinding = new Finding("Items did not appear in the expected order.");
+    static final Finding theUnsortedFinding = new Finding("Collection is not sorted.");
+    static final Finding theDuplicatesFinding = new Finding("Detected duplicates.");
+    private static final int defaultStreamingRadius = 3;
+    private static final int maxStreamedItemResults = 200;
+    private static final long maxPairedCells = 1 << 16;
+    private static final int maxListedMismatches = 3;
     // Config.
-    private final Settings<X> settings = new Settings<>();
-
-    @SuppressWarnings("unchecked")
+    private final Settings<X> settings;
 
     // Matching
-    private X[] actual = (X[]) new Object[0];
+    private List<X> actual = emptyList();
     private MatchMatrix matchMatrix = new MatchMatrix(0, 0);
-    private final Set<Integer> matchedExpected = new HashSet<>();
-    private final Set<Integer> matchedActual = new HashSet<>();
-    private final Set<Integer> unsorted = new HashSet<>();
-    private final Set<Integer> unordered = new HashSet<>();
-    private final Set<Integer> duplicates = new HashSet<>();
-    private final Set<Integer> unwanted = new HashSet<>();
+    private final BitSet matchedExpected = new BitSet();
+    private final BitSet matchedActual = new BitSet();
+    private int nrOfMatchedExpected;
+    private int nrOfMatchedActual;
+    private final BitSet unsorted = new BitSet();
+    private final BitSet unordered = new BitSet();
+    private final BitSet duplicates = new BitSet();
+    private final BitSet unwanted = new BitSet();
     private final Set<Finding> findings = new LinkedHashSet<>();
+    private List<ItemResult> streamedItemResults = emptyList();
+    private int streamedSize;
+    private int streamedViolatingItems;
+    // Debug output of the item matchers for the current evaluation.
+    private MismatchCaptures mismatchCaptures = new MismatchCaptures();
+    // Actual collection that failed the fail-fast evaluation and awaits the full one.
+    private C pending;
+    // Its items, if already indexed.
+    private List<X> pendingItems;
+    // The actual collection that failed the last matchesSafely() call and its size at that time,
+    // if it's a Collection, until its mismatch is described.
+    private Object evaluated;
+    private int evaluatedSize;
+    // Outcome of the last Comparable check. It's the same for all items of a class.
+    private final Map<Class<?>, Finding> notComparableFindings = new HashMap<>();
     private final Prose<X> prose;
     private final Config config;
     private boolean debugging;
@@ -114,16 +152,26 @@ public class FluentIterableMatcher<X, C extends Iterable<X>> extends TypeSafeMat
      */
     @Deprecated
     protected FluentIterableMatcher(final Class<X> klass, final Config config) {
-        this(klass, new Prose<>(config.getSymbols(), config.getStringifiers()), config);
+        this(klass, new Prose<>(config), config);
         debugging(config.isInDebugMode());
     }
 
     FluentIterableMatcher(final Class<X> klass, final Prose<X> prose, final Config config) {
-        this.config = config;
+        this(new Settings<>(), prose, config);
         settings.klass = klass;
+    }
+
+    private FluentIterableMatcher(final Settings<X> settings, final Prose<X> prose, final Config config) {
+        this.settings = settings;
+        this.config = config;
         this.prose = prose;
     }
 
+    /**
+     * <p>Fail-fast evaluation. Stops at the first finding.</p>
+     * <p>The complete diagnostics (all findings, item results, score)
+     * are computed only when they are asked for.</p>
+     */
     @Override
     protected boolean matchesSafely(final C iterable) {
 
@@ -133,18 +181,133 @@ public class FluentIterableMatcher<X, C extends Iterable<X>> extends TypeSafeMat
             findings.add(theNullCollectionFinding);
             return false;
         }
+        final boolean matched;
+        if (settings.streaming) {
+            remember(iterable);
+            streamAll(iterable);
+            matched = findings.isEmpty();
+        } else {
+            matched = !failsFast(iterable);
+        }
+        if (matched) {
+            evaluated = null;
+        }
+        return matched;
+    }
 
-        // noinspection unchecked
-        actual = (X[]) stream(iterable.spliterator(), false).toArray();
-        matchMatrix = new MatchMatrix(settings.expectations.length, actual.length);
+    /*
+     * Leaves the actual collection pending for the full evaluation
+     * unless the state is already the same as after the full evaluation.
+     * Adds at least one finding if (and only if) it fails.
+     */
+    private boolean failsFast(final C iterable) {
+        remember(iterable);
+        pending = iterable;
+        if (settings.expectedSize >= 0 && iterable instanceof Collection) {
+            final int size = ((Collection) iterable).size();
+            if (size != settings.expectedSize) {
+                findings.add(sizeMismatch(size));
+                return true;
+            }
+        }
+        actual = itemsOf(iterable);
+        pendingItems = actual;
+        matchMatrix = new MatchMatrix(settings.expectations.length, actual.size(), scorer(settings.expectations, actual));
 
-        loop(this::match);
-        loop(this::aggregate);
+        assessSize();
+        if (!findings.isEmpty()) {
+            return true;
+        }
+        if (settings.mustNotHaveUnexpectedItems && actual.size() > settings.expectations.length) {
+            findings.add(theUnexpectedItemsFinding);
+            return true;
+        }
+        assessSorting(true);
+        if (!findings.isEmpty()) {
+            return true;
+        }
+        assessUniqueness(true);
+        if (!findings.isEmpty()) {
+            return true;
+        }
+        final EqualityIndex equalityIndex = new EqualityIndex(settings.expectations);
+        final boolean lazily = !settings.mustNotHaveUnexpectedItems && !settings.ordered && !inParallel(equalityIndex.unindexed());
+        if (lazily) {
+            matchUntilSatisfied(equalityIndex);
+        } else if (!matchAll(equalityIndex, true)) {
+            findings.add(theUnfulfilledExpectationsFinding);
+            return true;
+        }
+        assessExpectations();
+        if (!findings.isEmpty()) {
+            return true;
+        }
+        assessOrder();
+        if (!findings.isEmpty()) {
+            return true;
+        }
+        if (!lazily) {
+            pending = null;
+            pendingItems = null;
+        }
+        return false;
+    }
+
+    private void evaluate(final C iterable, final List<X> items) {
+        reset();
+        validateSetup();
+        if (iterable == null) {
+            findings.add(theNullCollectionFinding);
+            return;
+        }
+        remember(iterable);
+        if (settings.streaming) {
+            streamAll(iterable);
+            return;
+        }
+        actual = items != null ? items : itemsOf(iterable);
+        matchMatrix = new MatchMatrix(settings.expectations.length, actual.size(), scorer(settings.expectations, actual));
+
+        matchAll(new EqualityIndex(settings.expectations), false);
         assess();
+    }
 
+    private void remember(final C iterable) {
+        evaluated = iterable;
+        evaluatedSize = sizeOf(iterable);
+    }
+
+    /*
+     * The state is reused only for the mismatch description that directly follows
+     * a failed matchesSafely() call on the very same actual collection,
+     * unless it's a Collection that changed its size in the meantime.
+     * That way, an Iterable isn't iterated once more just for the description.
+     * Otherwise the collection is evaluated afresh.
+     */
+    private boolean isEvaluationOf(final C iterable) {
+        return iterable != null && iterable == evaluated && sizeOf(iterable) == evaluatedSize;
+    }
 
-        return findings.isEmpty();
+    private static int sizeOf(final Iterable<?> iterable) {
+        return iterable instanceof Collection ? ((Collection) iterable).size() : -1;
+    }
+
+    private void ensureEvaluated() {
+        if (pending != null) {
+            evaluate(pending, pendingItems);
+        }
+    }
 
+    /*
+     * Random access lists (including arrays wrapped by Arrays.asList()) are indexed in place.
+     * Other Iterables are copied.
+     */
+    private List<X> itemsOf(final C iterable) {
+        if (iterable instanceof List && iterable instanceof RandomAccess) {
+            return (List<X>) iterable;
+        }
+        // noinspection unchecked
+        return Arrays.asList((X[]) stream(iterable.spliterator(), false).toArray());
     }
 
     @Override
@@ -155,16 +318,31 @@ public class FluentIterableMatcher<X, C extends Iterable<X>> extends TypeSafeMat
 
     @Override
     protected void describeMismatchSafely(final C iterable, final Description mismatchDescription) {
-        this.matchesSafely(iterable);
+        if (isEvaluationOf(iterable)) {
+            ensureEvaluated();
+        } else {
+            evaluate(iterable, null);
+        }
 
         final Stream<Finding> findings = this.findings.stream();
-        final List<ItemResult> itemResults = getItemResults();
-        prose.describe(findings, itemResults, mismatchDescription);
+        final List<ItemResult> itemResults;
+        final int nrOfViolatingItems;
+        if (settings.streaming) {
+            itemResults = streamedItemResults;
+            nrOfViolatingItems = streamedViolatingItems;
+        } else {
+            final ItemResults<X> results = itemResults();
+            itemResults = results;
+            nrOfViolatingItems = results.nrOfViolating();
+        }
+        final int collectionLength = settings.streaming ? streamedSize : itemResults.size();
+        prose.describe(findings, itemResults, collectionLength, nrOfViolatingItems, mismatchDescription);
 
         if (debugging) {
             super.describeMismatchSafely(iterable, mismatchDescription);
-            prose.describeDebugging(itemResults, mismatchDescription);
+            prose.describeDebugging(itemResults, collectionLength, mismatchCaptures, mismatchDescription);
         }
+        evaluated = null;
     }
 
     /**
@@ -177,6 +355,7 @@ public class FluentIterableMatcher<X, C extends Iterable<X>> extends TypeSafeMat
         if (findings.isEmpty()) {
             return 1.0;
         }
+        ensureEvaluated();
         if (findings.contains(theNullCollectionFinding)) {
             return 0.0;
         }
@@ -196,13 +375,34 @@ public class FluentIterableMatcher<X, C extends Iterable<X>> extends TypeSafeMat
         if (generalMatched < 0) {
             throw new IllegalStateException("There should be at least as many expectations as findings.");
         }
-        final double allMatched = generalMatched + matchedExpected.size();
+        final double allMatched = generalMatched + nrOfMatchedExpected;
         if (allMatched > allExpectations) {
             throw new IllegalStateException("There should not be more matched expectations than expectations.");
         }
         return allMatched / allExpectations;
     }
 
+    /**
+     * <p>Same as {@link #getScore()} after {@code matches(item)}, but leaves the last evaluation as it is.</p>
+     * <p>Evaluates the item on a fresh {@code FluentIterableMatcher} with the same settings.
+     * Item {@code Matcher}s are applied as usual, so they must be thread-safe themselves
+     * if this method is called from different threads.</p>
+     *
+     * @param item The <i>actual</i> {@code Iterable}.
+     * @return Value between 0 and 1.
+     */
+    @Override
+    public double score(final Object item) {
+        if (!(item instanceof Iterable)) {
+            return 0.0;
+        }
+        @SuppressWarnings("unchecked") // Item types aren't known at runtime. Items of another type just don't match.
+        final C iterable = (C) item;
+        final FluentIterableMatcher<X, C> context = new FluentIterableMatcher<>(settings, prose, config);
+        context.evaluate(iterable, null);
+        return context.getScore();
+    }
+
     private void validateSetup() {
         if (settings.expectedSize >= 0 && settings.expectedSize < settings.expectations.length) {
             throw new IllegalArgumentException(
@@ -211,6 +411,13 @@ public class FluentIterableMatcher<X, C extends Iterable<X>> extends TypeSafeMat
                     "is less than expected items specified."
             );
         }
+        if (settings.streaming && (settings.mustNotHaveUnexpectedItems || settings.unique || settings.ordered)) {
+            throw new IllegalArgumentException(
+                "Invalid setup. " +
+                    "exactly(), unique() and ordered() " +
+                    "are not supported in streaming mode."
+            );
+        }
         if (settings.mustNotHaveUnexpectedItems && settings.expectedSize >= 0 && settings.expectations.length != settings.expectedSize) {
             throw new IllegalArgumentException(
                 "Invalid setup. " +
@@ -222,87 +429,254 @@ public class FluentIterableMatcher<X, C extends Iterable<X>> extends TypeSafeMat
     }
 
     private void assess() {
+        assessSize();
+        assessExpectations();
+        assessOrder();
+        assessSorting(false);
+        assessUniqueness(false);
+    }
 
-        if (settings.expectedSize >= 0 && settings.expectedSize != actual.length) {
-            findings.add(new Finding("Size mismatch. Expected: " + settings.expectedSize + ". Actual was: " + actual.length + "."));
+    private void assessSize() {
+        if (settings.expectedSize >= 0 && settings.expectedSize != actual.size()) {
+            findings.add(sizeMismatch(actual.size()));
         }
-        if (matchedExpected.size() < settings.expectations.length) {
-            findings.add(new Finding("Not all expectations were fulfilled."));
+    }
+
+    private Finding sizeMismatch(final int actualSize) {
+        return new Finding("Size mismatch. Expected: " + settings.expectedSize + ". Actual was: " + actualSize + ".");
+    }
+
+    private void assessExpectations() {
+        if (nrOfMatchedExpected < settings.expectations.length) {
+            findings.add(theUnfulfilledExpectationsFinding);
         }
         if (settings.mustNotHaveUnexpectedItems)
-            if (actual.length > settings.expectations.length) {
-                findings.add(new Finding("Unexpected actual items."));
+            if (actual.size() > settings.expectations.length) {
+                findings.add(theUnexpectedItemsFinding);
             }
         else if (!matchMatrix.isOneToOne()) {
-                findings.add(new Finding("No 1:1 relationship between expectations and actual items."));
+                findings.add(theNoOneToOneFinding);
+                final MaximumMatching pairing = matchMatrix.maximumMatching();
+                for (int j = 0; j < actual.size(); j++) {
+                    if (pairing.expectationOf(j) < 0) {
+                        unwanted.set(j);
+                    }
+                }
             }
-        if (matchedExpected.size() > matchedActual.size()) {
-            findings.add(new Finding("Could not find matches for all expectations."));
-        }
-        if (settings.ordered) {
-            int matchedInOrder = 0;
-            for (int i = 0, j = 0; i < settings.expectations.length && j < actual.length; i++, j++) {
-                if (matchMatrix.matched(i, j)) {
-                    matchedInOrder++;
-                } else if (!settings.mustNotHaveUnexpectedItems) {
-                    unordered.add(j);
-                    i--;
-                } else {
-                    unordered.add(j);
-                    //break;
+        if (nrOfMatchedExpected > nrOfMatchedActual) {
+            findings.add(theUnmatchedExpectationsFinding);
+        }
+    }
+
+    private void assessOrder() {
+        if (settings.ordered && !isInOrder()) {
+            findings.add(theUnorderedFinding);
+            final BitSet outOfOrder = (BitSet) matchedActual.clone();
+            outOfOrder.andNot(OrderAlignment.alignedItems(matchMatrix.expectationsPerItem()));
+            unordered.or(outOfOrder);
+        }
+    }
+
+    /*
+     * With exactly(), each item must match the expectation at the same position.
+     * Otherwise the expectations must match a subsequence of the items, which is found greedily in one pass.
+     */
+    private boolean isInOrder() {
+        final int nrOfExpectations = settings.expectations.length;
+        if (settings.mustNotHaveUnexpectedItems) {
+            for (int i = 0; i < nrOfExpectations; i++) {
+                if (i >= actual.size() || !matchMatrix.matched(i, i)) {
+                    return false;
                 }
             }
-            if (matchedInOrder < settings.expectations.length) {
-                findings.add(new Finding("Items did not appear in the expected order."));
+            return true;
+        }
+        int i = 0;
+        for (int j = 0; j < actual.size() && i < nrOfExpectations; j++) {
+            if (matchMatrix.matched(i, j)) {
+                i++;
             }
         }
-        if (settings.sorted && actual.length > 1) {
-            final Finding unsorted = new Finding("Collection is not sorted.");
-            for (int k = 0, l = 1; l < actual.length; k++, l++) {
-                if (settings.comparator == null) {
-                    final Comparable x1 = castComparable(k);
-                    final Comparable x2 = castComparable(l);
-                    //noinspection unchecked
-                    if (x1 == null || x2 == null || x1.compareTo(x2) > 0) {
-                        this.unsorted.add(l);
-                        findings.add(unsorted);
-                    }
-                } else {
-                    if (settings.comparator.compare(actual[k], actual[l]) > 0) {
-                        this.unsorted.add(l);
-                        findings.add(unsorted);
+        return i == nrOfExpectations;
+    }
+
+    /*
+     * One pass to check the sort order. On failure (and with all items comparable),
+     * the full evaluation flags only the items outside a longest sorted subsequence.
+     */
+    private void assessSorting(final boolean failFast) {
+        if (settings.sorted && actual.size() > 1) {
+            final Set<Finding> sortFindings = new LinkedHashSet<>();
+            for (int k = 0, l = 1; l < actual.size(); k++, l++) {
+                if (breaksSortOrder(actual.get(k), actual.get(l), sortFindings)) {
+                    this.unsorted.set(l);
+                    sortFindings.add(theUnsortedFinding);
+                    if (failFast) {
+                        break;
                     }
                 }
             }
+            if (!failFast && sortFindings.size() == 1 && sortFindings.contains(theUnsortedFinding)) {
+                @SuppressWarnings("unchecked") // No finding about items not comparable, so they're all comparable.
+                final Comparator<X> order = settings.comparator != null ? settings.comparator : (x1, x2) -> ((Comparable) x1).compareTo(x2);
+                this.unsorted.clear();
+                this.unsorted.or(SortedSubsequence.unsortedItems(actual.size(), (j1, j2) -> order.compare(actual.get(j1), actual.get(j2))));
+            }
+            findings.addAll(sortFindings);
         }
-        if (settings.unique && actual.length > 1) {
-            for (int k = 0; k < actual.length; k++) {
-                for (int l = k + 1; l < actual.length; l++) {
-                    final X x1 = actual[k];
-                    final X x2 = actual[l];
-                    if (settings.equator.test(x1, x2)) {
-                        this.duplicates.add(k);
-                        this.duplicates.add(l);
-                    }
-                }
+    }
+
+    private void assessUniqueness(final boolean failFast) {
+        if (settings.unique && actual.size() > 1) {
+            if (settings.uniqueKey != null) {
+                findDuplicatesByKey(failFast);
+            } else if (settings.uniqueComparator != null) {
+                findDuplicatesByOrder(failFast);
+            } else {
+                findDuplicatesPairwise(failFast);
             }
             if (!duplicates.isEmpty()) {
-                findings.add(new Finding("Detected duplicates."));
+                findings.add(theDuplicatesFinding);
             }
         }
     }
 
-    private Comparable castComparable(int k) {
-        final X x = actual[k];
-        final Class<?> xClass = x.getClass();
-        if (!Comparable.class.isAssignableFrom(xClass)){
-            findings.add(new Finding("class '" + xClass + "' not comparable"));
-            return null;
+    private void findDuplicatesByKey(final boolean failFast) {
+        final Map<Object, Integer> firstOccurrences = new HashMap<>();
+        for (int j = 0; j < actual.size(); j++) {
+            final Integer first = firstOccurrences.putIfAbsent(settings.uniqueKey.apply(actual.get(j)), j);
+            if (first != null) {
+                this.duplicates.set(first);
+                this.duplicates.set(j);
+                if (failFast) {
+                    return;
+                }
+            }
         }
-        return (Comparable) x;
+    }
+
+    private void findDuplicatesByOrder(final boolean failFast) {
+        final Comparator<X> comparator = settings.uniqueComparator;
+        final Integer[] order = new Integer[actual.size()];
+        for (int j = 0; j < actual.size(); j++) {
+            order[j] = j;
+        }
+        final boolean alreadySorted = settings.sorted && settings.comparator == comparator && this.unsorted.isEmpty();
+        if (!alreadySorted) {
+            Arrays.sort(order, (j1, j2) -> comparator.compare(actual.get(j1), actual.get(j2)));
+        }
+        for (int k = 1; k < order.length; k++) {
+            if (comparator.compare(actual.get(order[k - 1]), actual.get(order[k])) == 0) {
+                this.duplicates.set(order[k - 1]);
+                this.duplicates.set(order[k]);
+                if (failFast) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void findDuplicatesPairwise(final boolean failFast) {
+        for (int k = 0; k < actual.size(); k++) {
+            for (int l = k + 1; l < actual.size(); l++) {
+                final X x1 = actual.get(k);
+                final X x2 = actual.get(l);
+                if (settings.equator.test(x1, x2)) {
+                    this.duplicates.set(k);
+                    this.duplicates.set(l);
+                    if (failFast) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean breaksSortOrder(final X x1, final X x2, final Set<Finding> findings) {
+        if (settings.comparator == null) {
+            final Comparable c1 = castComparable(x1, findings);
+            final Comparable c2 = castComparable(x2, findings);
+            //noinspection unchecked
+            return c1 == null || c2 == null || c1.compareTo(c2) > 0;
+        }
+        return settings.comparator.compare(x1, x2) > 0;
+    }
+
+    /* One finding per class, however the classes of the items alternate. */
+    private Comparable castComparable(final X x, final Set<Finding> findings) {
+        if (x instanceof Comparable) {
+            return (Comparable) x;
+        }
+        findings.add(notComparableFindings.computeIfAbsent(x.getClass(), xClass -> new Finding("class '" + xClass + "' not comparable")));
+        return null;
+    }
+
+    /*
+     * Single pass over the actual items without keeping them.
+     * Adds the same findings as the full evaluation
+     * but retains item results only for the items around violations.
+     */
+    private void streamAll(final C iterable) {
+        final Matcher<X>[] expectations = settings.expectations;
+        final EqualityIndex equalityIndex = new EqualityIndex(expectations);
+        final int[] unindexed = equalityIndex.unindexed();
+        final ItemWindow<X> window = new ItemWindow<>(settings.streamingRadius, maxStreamedItemResults, expectations);
+        final Set<Finding> sortFindings = new LinkedHashSet<>();
+        int size = 0;
+        int nrOfMatchedItems = 0;
+        int nrOfViolatingItems = 0;
+        X previous = null;
+        for (final X item : iterable) {
+            final int j = size++;
+            boolean matched = false;
+            for (final int i : equalityIndex.expectationsEqualTo(item)) {
+                aggregateExpectation(i);
+                matched = true;
+            }
+            for (final int i : unindexed) {
+                if (matched && matchedExpected.get(i)) {
+                    continue;
+                }
+                if (expectations[i].matches(item)) {
+                    aggregateExpectation(i);
+                    matched = true;
+                }
+            }
+            if (matched) {
+                nrOfMatchedItems++;
+            }
+            boolean unsorted = false;
+            if (settings.sorted && j > 0 && breaksSortOrder(previous, item, sortFindings)) {
+                unsorted = true;
+                sortFindings.add(theUnsortedFinding);
+            }
+            previous = item;
+            // As in the mismatch description: unmatched items violate as long as there are expectations.
+            final boolean violating = unsorted || !matched && expectations.length > 0;
+            if (violating) {
+                nrOfViolatingItems++;
+            }
+            final boolean surplus = j == settings.expectedSize;
+            window.add(item, j, matched, unsorted, violating || surplus);
+        }
+        streamedItemResults = window.retained();
+        streamedSize = size;
+        streamedViolatingItems = nrOfViolatingItems;
+
+        if (settings.expectedSize >= 0 && settings.expectedSize != size) {
+            findings.add(sizeMismatch(size));
+        }
+        if (nrOfMatchedExpected < expectations.length) {
+            findings.add(theUnfulfilledExpectationsFinding);
+        }
+        if (nrOfMatchedExpected > nrOfMatchedItems) {
+            findings.add(theUnmatchedExpectationsFinding);
+        }
+        findings.addAll(sortFindings);
     }
 
     private void reset() {
+        this.actual = emptyList();
         this.unwanted.clear();
         this.unordered.clear();
         this.unsorted.clear();
@@ -310,35 +684,137 @@ public class FluentIterableMatcher<X, C extends Iterable<X>> extends TypeSafeMat
         this.findings.clear();
         this.matchedActual.clear();
         this.matchedExpected.clear();
+        this.nrOfMatchedActual = 0;
+        this.nrOfMatchedExpected = 0;
         this.matchMatrix = new MatchMatrix(0, 0);
+        this.pending = null;
+        this.pendingItems = null;
+        this.evaluated = null;
+        this.streamedItemResults = emptyList();
+        this.streamedSize = 0;
+        this.streamedViolatingItems = 0;
+        this.mismatchCaptures = new MismatchCaptures();
+    }
+
+
+    /*
+     * Returns false if fail-fast and an expectation was found unmatched.
+     */
+    private boolean matchAll(final EqualityIndex equalityIndex, final boolean failFast) {
+        for (int j = 0; j < actual.size(); j++) {
+            for (final int i : equalityIndex.expectationsEqualTo(actual.get(j))) {
+                matchMatrix.match(i, j);
+                aggregate(i, j);
+            }
+        }
+        final int[] unindexed = equalityIndex.unindexed();
+        if (inParallel(unindexed)) {
+            matchInParallel(unindexed);
+        } else {
+            for (final int i : unindexed) {
+                boolean matched = false;
+                for (int j = 0; j < actual.size(); j++) {
+                    if (match(i, j)) {
+                        aggregate(i, j);
+                        matched = true;
+                    }
+                }
+                if (failFast && !matched) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
+    /*
+     * Item by item and only as far as needed to decide whether the actual collection matches.
+     * Stops when every expectation has a match and as many distinct items matched as there are expectations.
+     * Further matches cannot change the findings then.
+     * Other than that, an expectation is applied to an item only if either of them hasn't matched yet,
+     * so the sets of matched expectations and matched items are complete. The match matrix is not.
+     */
+    private void matchUntilSatisfied(final EqualityIndex equalityIndex) {
+        final int[] unindexed = equalityIndex.unindexed();
+        final int nrOfExpectations = settings.expectations.length;
+        for (int j = 0; j < actual.size(); j++) {
+            if (nrOfMatchedExpected == nrOfExpectations && nrOfMatchedActual >= nrOfExpectations) {
+                return;
+            }
+            for (final int i : equalityIndex.expectationsEqualTo(actual.get(j))) {
+                matchMatrix.match(i, j);
+                aggregate(i, j);
+            }
+            for (final int i : unindexed) {
+                if (matchedExpected.get(i) && matchedActual.get(j)) {
+                    continue;
+                }
+                if (match(i, j)) {
+                    aggregate(i, j);
+                }
+            }
+        }
+    }
 
-    private void loop(final BiConsumer<Integer, Integer> action) {
+    private boolean inParallel(final int[] expectationIndices) {
+        return settings.parallelThreshold >= 0
+            && expectationIndices.length > 1
+            && (long) expectationIndices.length * actual.size() >= settings.parallelThreshold;
+    }
 
-        for (int i = 0; i < settings.expectations.length; i++) {
-            for (int j = 0; j < actual.length; j++) {
-                action.accept(i, j);
+    /*
+     * Each task takes all rows of one matcher instance.
+     * So a (potentially stateful) matcher is never applied by two threads at the same time
+     * and each task writes to its own rows of the match matrix only.
+     */
+    private void matchInParallel(final int[] expectationIndices) {
+        final Map<Matcher<X>, List<Integer>> rowsPerMatcher = new IdentityHashMap<>();
+        for (final int i : expectationIndices) {
+            rowsPerMatcher.computeIfAbsent(settings.expectations[i], m -> new ArrayList<>()).add(i);
+        }
+        new ArrayList<>(rowsPerMatcher.values()).parallelStream().forEach(rows -> {
+            for (final int i : rows) {
+                for (int j = 0; j < actual.size(); j++) {
+                    match(i, j);
+                }
             }
+        });
+        for (final int i : expectationIndices) {
+            matchMatrix.forEachMatch(i, j -> aggregate(i, j));
         }
     }
 
-    private void match(final int i, final int j) {
-        final Matcher<X> expectation = settings.expectations[i];
-        if (expectation.matches(actual[j])) {
+    private boolean match(final int i, final int j) {
+        if (settings.expectations[i].matches(actual.get(j))) {
             matchMatrix.match(i, j);
-        } else {
-            if (expectation instanceof ScorableMatcher) {
-                matchMatrix.scoredMismatch(i, j, ((ScorableMatcher) expectation).getScore());
-            }
-            // Else mismatch!
+            return true;
         }
+        // Else mismatch! Scored and described only if the mismatch description asks for it.
+        return false;
+    }
+
+    /*
+     * Only asked for cells that aren't matches. Unindexed expectations have been applied to all items then.
+     */
+    private static <X> MatchMatrix.Scorer scorer(final Matcher<X>[] expectations, final List<X> items) {
+        return (i, j) -> {
+            final Matcher<X> expectation = expectations[i];
+            return expectation instanceof ScorableMatcher ? ((ScorableMatcher) expectation).score(items.get(j)) : 0.0;
+        };
     }
 
     private void aggregate(final int i, final int j) {
-        if (matchMatrix.matched(i, j)) {
-            matchedExpected.add(i);
-            matchedActual.add(j);
+        aggregateExpectation(i);
+        if (!matchedActual.get(j)) {
+            matchedActual.set(j);
+            nrOfMatchedActual++;
+        }
+    }
+
+    private void aggregateExpectation(final int i) {
+        if (!matchedExpected.get(i)) {
+            matchedExpected.set(i);
+            nrOfMatchedExpected++;
         }
     }
 
@@ -385,56 +861,149 @@ public class FluentIterableMatcher<X, C extends Iterable<X>> extends TypeSafeMat
 
 
     List<ItemResult> getItemResults() {
-        final List<ItemResult> itemResults = new LinkedList<>();
-        for (int j = 0; j < actual.length; j++) {
-            if (matchedActual.contains(j)) {
-                itemResults.add(ItemResult.builder(actual[j])
-                    .matched(true)
-                    .withIndex(j)
-                    .breakingItemOrder(this.unordered.contains(j))
-                    .duplicate(this.duplicates.contains(j))
-                    .breakingSortOrder(this.unsorted.contains(j))
-                    .build());
-            } else if (settings.mustNotHaveUnexpectedItems && settings.ordered) {
-                this.unwanted.add(j);
-                final ItemResult.Builder<X> builder = ItemResult.builder(actual[j]);
-                if (j < settings.expectations.length) {
-                    builder
-                        .withMatchers(singletonList(new ItemResult.MatcherWithIndex(settings.expectations[j], j)));
-                }
-                itemResults.add(builder
-                    .matched(false)
-                    .withIndex(j)
-                    .breakingItemOrder(true)
-                    .duplicate(this.duplicates.contains(j))
-                    .unwanted(true)
-                    .breakingSortOrder(this.unsorted.contains(j))
-                    .build());
-            } else {
-                if (settings.mustNotHaveUnexpectedItems) {
-                    this.unwanted.add(j);
-                }
-                final Set<ScoredMismatch> unmatched = new TreeSet<>();
-                for (int i = 0; i < settings.expectations.length; i++) {
-                    final double score = matchMatrix.getScore(i, j);
-                    if (score != 1.0) {
-                        unmatched.add(new ScoredMismatch(j, i, score));
-                    }
-                }
-                itemResults.add(ItemResult.builder(actual[j])
-                    .matched(false)
-                    .withIndex(j)
-                    .withMatchers(unmatched.stream()
-                        .map(sm -> new ItemResult.MatcherWithIndex(settings.expectations[sm.matcher], sm.matcher))
-                        .collect(toList()))
-                    .breakingItemOrder(this.unordered.contains(j))
-                    .duplicate(this.duplicates.contains(j))
-                    .breakingSortOrder(this.unsorted.contains(j))
-                    .unwanted(this.unwanted.contains(j))
-                    .build());
+        if (settings.streaming) {
+            return streamedItemResults;
+        }
+        return itemResults();
+    }
+
+    private ItemResults<X> itemResults() {
+        ensureEvaluated();
+        final BitSet unmatched = (BitSet) matchedActual.clone();
+        unmatched.flip(0, actual.size());
+        final BitSet unordered = (BitSet) this.unordered.clone();
+        final BitSet unwanted = (BitSet) this.unwanted.clone();
+        final boolean inOneToOneOrder = settings.mustNotHaveUnexpectedItems && settings.ordered;
+        if (settings.mustNotHaveUnexpectedItems) {
+            unwanted.or(unmatched);
+        }
+        if (inOneToOneOrder) {
+            unordered.or(unmatched);
+        }
+        final Matcher<X>[] expectations = settings.expectations;
+        final MatchMatrix matchMatrix = this.matchMatrix;
+        final int[] pairing = settings.paired && !inOneToOneOrder ? pairing(expectations, matchMatrix, unmatched) : null;
+        return new ItemResults<>(
+            actual,
+            (BitSet) matchedActual.clone(),
+            (BitSet) unsorted.clone(),
+            unordered,
+            (BitSet) duplicates.clone(),
+            unwanted,
+            inOneToOneOrder ? j -> expectationAt(expectations, j)
+                : pairing != null ? j -> pairedMismatch(expectations, pairing, j)
+                : settings.paired ? j -> bestScored(expectations, matchMatrix, j)
+                : j -> mismatchedByScore(expectations, matchMatrix, j),
+            // An unmatched item matches no expectation, so it's mismatched by all of them unless paired.
+            inOneToOneOrder ? j -> j < expectations.length
+                : pairing != null ? j -> j < pairing.length && pairing[j] >= 0
+                : j -> expectations.length > 0,
+            // In a one-to-one relationship (other than by position), the pairing behind the verdict.
+            !inOneToOneOrder && (settings.mustNotHaveUnexpectedItems || settings.paired) ? j -> matchMatrix.maximumMatching().expectationOf(j)
+                : j -> -1
+        );
+    }
+
+    /*
+     * Pairs the unmatched items with distinct expectations left over by the maximum matching
+     * so that the sum of the scores is maximal. The expectation paired with each item, or -1.
+     * Beyond maxPairedCells, null. Each unmatched item gets its best scored expectations instead then.
+     */
+    private static int[] pairing(final Matcher[] expectations, final MatchMatrix matchMatrix, final BitSet unmatched) {
+        final int[] items = unmatched.stream().toArray();
+        final MaximumMatching maximumMatching = matchMatrix.maximumMatching();
+        final int[] leftOver = IntStream.range(0, expectations.length).filter(i -> maximumMatching.itemOf(i) < 0).toArray();
+        if ((long) items.length * leftOver.length > maxPairedCells) {
+            return null;
+        }
+        final double[][] scores = new double[items.length][leftOver.length];
+        for (int r = 0; r < items.length; r++) {
+            for (int c = 0; c < leftOver.length; c++) {
+                scores[r][c] = matchMatrix.getScore(leftOver[c], items[r]);
+            }
+        }
+        final int[] columns = OptimalPairing.columnsOfRows(scores, leftOver.length);
+        final int[] expectationOfItem = new int[unmatched.length()];
+        Arrays.fill(expectationOfItem, -1);
+        for (int r = 0; r < items.length; r++) {
+            if (columns[r] >= 0) {
+                expectationOfItem[items[r]] = leftOver[columns[r]];
             }
         }
-        return itemResults;
+        return expectationOfItem;
+    }
+
+    private static List<ItemResult.MatcherWithIndex> pairedMismatch(final Matcher[] expectations, final int[] pairing, final int j) {
+        final int i = j < pairing.length ? pairing[j] : -1;
+        if (i < 0) {
+            return emptyList();
+        }
+        return singletonList(new ItemResult.MatcherWithIndex(expectations[i], i));
+    }
+
+    /* Like mismatchedByScore() but only the first maxListedMismatches, without sorting all expectations. */
+    private static List<ItemResult.MatcherWithIndex> bestScored(final Matcher[] expectations, final MatchMatrix matchMatrix, final int j) {
+        final int[] best = new int[maxListedMismatches];
+        final double[] bestScores = new double[maxListedMismatches];
+        int size = 0;
+        for (int i = 0; i < expectations.length; i++) {
+            final double score = matchMatrix.getScore(i, j);
+            if (score == 1.0) {
+                continue;
+            }
+            int position = size;
+            while (position > 0 && ranksBefore(j, i, score, best[position - 1], bestScores[position - 1])) {
+                position--;
+            }
+            if (position < maxListedMismatches) {
+                final int end = Math.min(size, maxListedMismatches - 1);
+                arraycopy(best, position, best, position + 1, end - position);
+                arraycopy(bestScores, position, bestScores, position + 1, end - position);
+                best[position] = i;
+                bestScores[position] = score;
+                size = Math.min(size + 1, maxListedMismatches);
+            }
+        }
+        final List<ItemResult.MatcherWithIndex> mismatched = new ArrayList<>(size);
+        for (int k = 0; k < size; k++) {
+            mismatched.add(new ItemResult.MatcherWithIndex(expectations[best[k]], best[k]));
+        }
+        return mismatched;
+    }
+
+    /* Same order as ScoredMismatch. */
+    private static boolean ranksBefore(final int j, final int i1, final double score1, final int i2, final double score2) {
+        if (score1 != score2) {
+            return score1 > score2;
+        }
+        final int distance1 = Math.abs(j - i1);
+        final int distance2 = Math.abs(j - i2);
+        if (distance1 != distance2) {
+            return distance1 < distance2;
+        }
+        return i1 < i2;
+    }
+
+    /* In exactly() and ordered() mode, an unmatched item is reported against the expectation at the same position. */
+    private static List<ItemResult.MatcherWithIndex> expectationAt(final Matcher[] expectations, final int j) {
+        if (j < expectations.length) {
+            return singletonList(new ItemResult.MatcherWithIndex(expectations[j], j));
+        }
+        return emptyList();
+    }
+
+    /* The expectations not matching the item, best fitting first. */
+    private static List<ItemResult.MatcherWithIndex> mismatchedByScore(final Matcher[] expectations, final MatchMatrix matchMatrix, final int j) {
+        final Set<ScoredMismatch> unmatched = new TreeSet<>();
+        for (int i = 0; i < expectations.length; i++) {
+            final double score = matchMatrix.getScore(i, j);
+            if (score != 1.0) {
+                unmatched.add(new ScoredMismatch(j, i, score));
+            }
+        }
+        return unmatched.stream()
+            .map(sm -> new ItemResult.MatcherWithIndex(expectations[sm.matcher], sm.matcher))
+            .collect(toList());
     }
 
     /**
@@ -530,6 +1099,7 @@ public class FluentIterableMatcher<X, C extends Iterable<X>> extends TypeSafeMat
      * and/or {@code Matcher}s set in {@link FluentIterableMatcher#withItemsMatching(org.hamcrest.Matcher[])}.</p>
      * <p>Otherwise the {@code FluentIterableMatcher} compares all expected values to all items.</p>
      * <p>For each expected value, there must be at least one equal item.</p>
+     * <p>Equal items are looked up by {@code hashCode}, so the values' {@code equals} and {@code hashCode} must be consistent.</p>
      *
      * @param expectedItems Values expected to be contained in the {@code Iterable}'s iteration sequence.
      * @return The {@code FluentIterableMatcher} instance on which the method was called.
@@ -567,6 +1137,9 @@ public class FluentIterableMatcher<X, C extends Iterable<X>> extends TypeSafeMat
 
     /**
      * <p>Expect items in the {@code Iterable} to be unique by instance identity or {@code equals} and {@code hashCode}.</p>
+     * <p>Keeps the equality definition of an earlier call to {@link FluentIterableMatcher#unique(java.util.function.BiPredicate)},
+     * {@link FluentIterableMatcher#uniqueBy(java.util.function.Function)}
+     * or {@link FluentIterableMatcher#uniqueByOrder(java.util.Comparator)}, if any.</p>
      *
      * @return The {@code FluentIterableMatcher} instance on which the method was called.
      */
@@ -586,7 +1159,151 @@ public class FluentIterableMatcher<X, C extends Iterable<X>> extends TypeSafeMat
     @SuppressWarnings("WeakerAccess")
     public FluentIterableMatcher<X, C> unique(final BiPredicate<X, X> equator) {
         this.settings.unique = true;
+        this.settings.uniqueKey = null;
         this.settings.equator = equator;
+        this.settings.uniqueComparator = null;
+        return this;
+    }
+
+    /**
+     * <p>Expect items in the {@code Iterable} to be unique with respect to the key extracted by the {@code key} function.</p>
+     * <p>Two items are considered duplicates if their keys are equal by {@code equals} and {@code hashCode}.
+     * Other than {@link FluentIterableMatcher#unique(java.util.function.BiPredicate)},
+     * this doesn't require to compare every item with every other item.</p>
+     *
+     * @param key Function extracting the property that must be unique.
+     * @param <K> Type of the key.
+     * @return The {@code FluentIterableMatcher} instance on which the method was called.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public <K> FluentIterableMatcher<X, C> uniqueBy(final Function<X, K> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key function must not be null.");
+        }
+        this.settings.unique = true;
+        this.settings.uniqueKey = key;
+        this.settings.equator = null;
+        this.settings.uniqueComparator = null;
+        return this;
+    }
+
+    /**
+     * <p>Expect items in the {@code Iterable} to be unique according to the {@code comparator}.</p>
+     * <p>Two items are considered duplicates if the {@code comparator} returns 0 for them.
+     * Useful for items that have an order but no suitable {@code equals} and {@code hashCode}.
+     * The items are sorted to find duplicates among neighbours.
+     * If the same {@code comparator} is passed to {@link FluentIterableMatcher#sorted(java.util.Comparator)}
+     * and the {@code Iterable} is sorted, it isn't sorted again.</p>
+     *
+     * @param comparator {@code Comparator} defining which items are equal.
+     * @return The {@code FluentIterableMatcher} instance on which the method was called.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public FluentIterableMatcher<X, C> uniqueByOrder(final Comparator<X> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null.");
+        }
+        this.settings.unique = true;
+        this.settings.uniqueKey = null;
+        this.settings.equator = null;
+        this.settings.uniqueComparator = comparator;
+        return this;
+    }
+
+    /**
+     * <p>Apply the item {@code Matcher}s to the items in parallel, on the common {@code ForkJoinPool}.</p>
+     * <p>Worthwhile if there are many expensive item {@code Matcher}s, such as nested {@code FluentAttributeMatcher}s.</p>
+     * <p>The work is split by item {@code Matcher}. Every {@code Matcher} instance
+     * is applied to all items by a single thread, so the result doesn't depend on scheduling.
+     * {@code Matcher}s that are shared between several item {@code Matcher}s
+     * (for example nested in several {@code FluentAttributeMatcher}s) must be thread-safe, though.</p>
+     * <p>Matching in parallel applies every item {@code Matcher} to every item.
+     * It doesn't stop early once all expectations are met,
+     * as sequential matching does unless {@link FluentIterableMatcher#exactly()} or {@link FluentIterableMatcher#ordered()} is set.</p>
+     *
+     * @return The {@code FluentIterableMatcher} instance on which the method was called.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public FluentIterableMatcher<X, C> parallel() {
+        return parallel(0);
+    }
+
+    /**
+     * <p>Like {@link FluentIterableMatcher#parallel()}, but only if the number of item {@code Matcher}s
+     * times the number of items reaches the {@code threshold}. Otherwise items are matched sequentially.</p>
+     * <p>Expected values set via {@link FluentIterableMatcher#withItems(java.lang.Object[])} don't count,
+     * since they are looked up rather than applied to every item.</p>
+     *
+     * @param threshold Minimum number of {@code Matcher} applications to go parallel.
+     * @return The {@code FluentIterableMatcher} instance on which the method was called.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public FluentIterableMatcher<X, C> parallel(final long threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold must not be negative.");
+        }
+        this.settings.parallelThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * <p>In the mismatch description, pair each item not matching any expectation
+     * with one unfulfilled expectation of its own.</p>
+     * <p>Unfulfilled are the expectations left over when pairing matching items and expectations 1:1.
+     * The pairs are chosen so that the sum of the scores of {@code ScorableMatcher}s
+     * (like the {@code FluentAttributeMatcher}) is maximal.
+     * So no two items are shown the same closest expectation.
+     * Without this setting, each unmatched item is listed with all item {@code Matcher}s it doesn't match.</p>
+     * <p>With more than 65536 combinations of unmatched items and unfulfilled expectations,
+     * each unmatched item is listed with its 3 best scored {@code Matcher}s instead.</p>
+     * <p>Doesn't affect whether the {@code Iterable} matches.
+     * Ignored in conjunction with {@link FluentIterableMatcher#exactly()} and {@link FluentIterableMatcher#ordered()}
+     * and in {@link FluentIterableMatcher#streaming()} mode.</p>
+     *
+     * @return The {@code FluentIterableMatcher} instance on which the method was called.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public FluentIterableMatcher<X, C> paired() {
+        this.settings.paired = true;
+        return this;
+    }
+
+    /**
+     * <p>Checks the actual {@code Iterable} in a single pass without copying its items.</p>
+     * <p>Memory needed stays proportional to the number of expectations.
+     * So this is the way to check huge or lazily loaded {@code Iterable}s,
+     * for example backed by a file or a database cursor.
+     * The {@code Iterable} is iterated once per call to {@code matches()}.
+     * {@code describeMismatch()} reuses that iteration for the same instance.</p>
+     * <p>Supports {@link FluentIterableMatcher#ofSize(int)}, {@link FluentIterableMatcher#sorted()} and the expected items.
+     * Not supported are {@link FluentIterableMatcher#exactly()} and {@link FluentIterableMatcher#unique()},
+     * which need all items at the same time,
+     * and {@link FluentIterableMatcher#ordered()}, which needs all matches to tell the items out of order.</p>
+     * <p>The mismatch description only shows the first items
+     * and the items right before and after items breaking the size or sort order or not matching any expectation.
+     * Items not matching any expectation are listed with all item {@code Matcher}s in declaration order.</p>
+     *
+     * @return The {@code FluentIterableMatcher} instance on which the method was called.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public FluentIterableMatcher<X, C> streaming() {
+        return streaming(defaultStreamingRadius);
+    }
+
+    /**
+     * <p>Like {@link FluentIterableMatcher#streaming()}
+     * with the number of items to show before and after a violation in the mismatch description.</p>
+     *
+     * @param radius Number of items to show before and after a violation.
+     * @return The {@code FluentIterableMatcher} instance on which the method was called.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public FluentIterableMatcher<X, C> streaming(final int radius) {
+        if (radius < 0) {
+            throw new IllegalArgumentException("Radius must not be negative.");
+        }
+        this.settings.streaming = true;
+        this.settings.streamingRadius = radius;
         return this;
     }
 
@@ -601,6 +1318,42 @@ public class FluentIterableMatcher<X, C extends Iterable<X>> extends TypeSafeMat
         return this;
     }
 
+    /**
+     * <p>Freezes the expectations into an immutable {@code Matcher} that can be shared between threads.</p>
+     * <p>Each evaluation gets its own context holding the state of that evaluation.
+     * So the compiled {@code Matcher} can live in a {@code static final} field
+     * and be used by tests running in parallel.
+     * Nested {@code FluentIterableMatcher}s and {@code FluentAttributeMatcher}s are compiled as well.
+     * Other item {@code Matcher}s are shared by all evaluations and must be thread-safe themselves.</p>
+     * <p>{@code describeMismatch()} and {@code getScore()} refer to the last evaluation in the calling thread.
+     * Later changes to this {@code FluentIterableMatcher} don't affect the compiled {@code Matcher}.</p>
+     *
+     * @return Immutable, thread-safe {@code Matcher}.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public Matcher<C> compile() {
+        validateSetup();
+        final Settings<X> plan = settings.copy();
+        for (int i = 0; i < plan.expectations.length; i++) {
+            plan.expectations[i] = compiled(plan.expectations[i]);
+        }
+        final Prose<X> prose = this.prose;
+        final Config config = this.config;
+        final boolean debugging = this.debugging;
+        return new CompiledIterableMatcher<>(() -> new FluentIterableMatcher<X, C>(plan, prose, config).debugging(debugging));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <X> Matcher<X> compiled(final Matcher<X> matcher) {
+        if (matcher instanceof FluentIterableMatcher) {
+            return ((FluentIterableMatcher) matcher).compile();
+        }
+        if (matcher instanceof FluentAttributeMatcher) {
+            return ((FluentAttributeMatcher<X>) matcher).compile();
+        }
+        return matcher;
+    }
+
     private void addToExpectations(final Matcher[] matchers) {
         final int nrOfExistingExpectations = this.settings.expectations.length;
         expandExpectationsArray(matchers.length);
@@ -0,0 +1,93 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.Matcher;
+import org.objecttrouve.testing.matchers.api.Config;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/**
+ * <p>
+ * A {@link FluentPrimitiveArrayMatcher} for {@code long[]}.
+ * </p>
+ * <p>Example:</p>
+ * <pre>
+ * <code>
+ *  assertThat(values, is(
+ *      aLongArray()
+ *          .sorted()
+ *          .unique()
+ *          .withItems(1L, 2L, 3L)
+ *  ));
+ * </code>
+ * </pre>
+ */
+public class FluentLongArrayMatcher extends FluentPrimitiveArrayMatcher<long[], FluentLongArrayMatcher> {
+
+    FluentLongArrayMatcher(final Prose<Object> prose, final Config config) {
+        super(new long[0], prose, config);
+    }
+
+    /**
+     * <p>Adds expected values.</p>
+     * <p>For each expected value, there must be at least one equal value in the <i>actual</i> array.</p>
+     *
+     * @param expectedItems Expected values.
+     * @return The {@code FluentLongArrayMatcher} instance on which the method was called.
+     */
+    public FluentLongArrayMatcher withItems(final long... expectedItems) {
+        return withExpected(expectedItems);
+    }
+
+    /**
+     * <p>A {@code Matcher} applying the same checks to the values of a {@code LongStream}.</p>
+     * <p>The {@code LongStream} is consumed by {@code matches()}.
+     * {@code describeMismatch()} reuses the values collected from the very same {@code LongStream} instance.</p>
+     *
+     * @return {@code Matcher} for a {@code LongStream}.
+     */
+    public Matcher<LongStream> forStream() {
+        return new PrimitiveStreamMatcher<>(LongStream.class, LongStream::toArray, this);
+    }
+
+    @Override
+    int length(final long[] array) {
+        return array.length;
+    }
+
+    @Override
+    int compare(final long[] array1, final int index1, final long[] array2, final int index2) {
+        return Long.compare(array1[index1], array2[index2]);
+    }
+
+    @Override
+    long bits(final long[] array, final int index) {
+        return array[index];
+    }
+
+    @Override
+    long[] sortedCopy(final long[] array) {
+        final long[] copy = array.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Override
+    long[] concat(final long[] array1, final long[] array2) {
+        final long[] both = Arrays.copyOf(array1, array1.length + array2.length);
+        System.arraycopy(array2, 0, both, array1.length, array2.length);
+        return both;
+    }
+
+    @Override
+    Object valueAt(final long[] array, final int index) {
+        return array[index];
+    }
+}
@@ -63,7 +63,8 @@ public class FluentMapMatcher<K, V> extends TypeSafeMatcher<Map<K, V>> implement
 
         @Override
         public int hashCode() {
-            return Objects.hash(key, value);
+            // As specified by Map.Entry, so that entries of any Map implementation hash alike.
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
         }
 
         @Override
@@ -212,6 +213,11 @@ public class FluentMapMatcher<K, V> extends TypeSafeMatcher<Map<K, V>> implement
         return delegate.getScore();
     }
 
+    @Override
+    public double score(final Object item) {
+        return item instanceof Map ? delegate.score(((Map<?, ?>) item).entrySet()) : 0.0;
+    }
+
     @Override
     protected boolean matchesSafely(Map<K, V> map) {
         return delegate.matches(map.entrySet());
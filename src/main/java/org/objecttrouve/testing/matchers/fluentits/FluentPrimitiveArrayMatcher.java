@@ -0,0 +1,485 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+import org.objecttrouve.testing.matchers.api.Config;
+import org.objecttrouve.testing.matchers.api.ScorableMatcher;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * <p>
+ * Base of the {@code org.hamcrest.TypeSafeMatcher}s
+ * to check multiple characteristics of an <i>actual</i> array of primitives
+ * at the same time.
+ * </p>
+ * <p>Offers the same fluent API as the {@link FluentIterableMatcher}
+ * to express expectations about size, sortedness, uniqueness and the expected values.</p>
+ * <p>The values are compared as primitives, without boxing them.
+ * Only the mismatch description boxes them,
+ * so that it looks the same as for an {@code Iterable}.</p>
+ *
+ * @param <A> Type of the primitive array.
+ * @param <M> Type of the matcher itself.
+ */
+@SuppressWarnings("rawtypes")
+public abstract class FluentPrimitiveArrayMatcher<A, M extends FluentPrimitiveArrayMatcher<A, M>> extends TypeSafeMatcher<A> implements ScorableMatcher {
+
+    // Up to this many expected values, each actual value is looked up by a linear scan instead of sorting the actual array.
+    private static final int maxScannedExpectations = 16;
+    // Beyond this many values, duplicates are detected in a sorted copy instead of a hash table.
+    private static final int maxHashedItems = 1 << 28;
+
+    private final Class<?> componentType;
+    private final Prose<Object> prose;
+    private final Config config;
+    private boolean debugging;
+    // Config.
+    private int expectedSize = -1;
+    private boolean sorted;
+    private boolean unique;
+    private boolean mustNotHaveUnexpectedItems;
+    private A expected;
+    // Matching.
+    private final Set<Finding> findings = new LinkedHashSet<>();
+    private int nrOfMatchedExpectations;
+    private Object evaluated;
+
+    FluentPrimitiveArrayMatcher(final A empty, final Prose<Object> prose, final Config config) {
+        super(empty.getClass());
+        this.componentType = empty.getClass().getComponentType();
+        this.expected = empty;
+        this.prose = prose;
+        this.config = config;
+    }
+
+    abstract int length(A array);
+
+    abstract int compare(A array1, int index1, A array2, int index2);
+
+    /* Bits that are equal if (and only if) compare() returns 0 for the values. */
+    abstract long bits(A array, int index);
+
+    abstract A sortedCopy(A array);
+
+    abstract A concat(A array1, A array2);
+
+    abstract Object valueAt(A array, int index);
+
+    /**
+     * <p>Sets the expected number of values in the <i>actual</i> array.</p>
+     *
+     * @param expectedSize The expected number of values in the array.
+     * @return The matcher instance on which the method was called.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public M ofSize(final int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Size must not be negative.");
+        }
+        this.expectedSize = expectedSize;
+        return self();
+    }
+
+    /**
+     * <p>Expect the values in the array to be sorted in ascending order.</p>
+     *
+     * @return The matcher instance on which the method was called.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public M sorted() {
+        this.sorted = true;
+        return self();
+    }
+
+    /**
+     * <p>Expect the values in the array to be unique.</p>
+     *
+     * @return The matcher instance on which the method was called.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public M unique() {
+        this.unique = true;
+        return self();
+    }
+
+    /**
+     * <p>Expect the array to have <i>only</i> the values specified as expected items,
+     * each value as often as specified.</p>
+     * <p>If used in conjunction with {@code ofSize()},
+     * the expected number of values must be consistent with the number of expected items.</p>
+     *
+     * @return The matcher instance on which the method was called.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public M exactly() {
+        this.mustNotHaveUnexpectedItems = true;
+        return self();
+    }
+
+    /**
+     * <p>Turn on debug mode for more detailed output.</p>
+     *
+     * @return The matcher instance on which the method was called.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public M debugging() {
+        this.debugging = true;
+        return self();
+    }
+
+    M debugging(final boolean inDebugMode) {
+        if (inDebugMode) {
+            debugging();
+        }
+        return self();
+    }
+
+    M withExpected(final A values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Item expectations must not be null.");
+        }
+        this.expected = concat(this.expected, values);
+        return self();
+    }
+
+    @SuppressWarnings("unchecked")
+    private M self() {
+        return (M) this;
+    }
+
+    @Override
+    protected boolean matchesSafely(final A actual) {
+        findings.clear();
+        evaluated = null;
+        validateSetup();
+
+        final int nrOfItems = length(actual);
+        if (expectedSize >= 0 && expectedSize != nrOfItems) {
+            findings.add(new Finding("Size mismatch. Expected: " + expectedSize + ". Actual was: " + nrOfItems + "."));
+        }
+        final boolean expectingValues = length(expected) > 0 || mustNotHaveUnexpectedItems;
+        final boolean merging = expectingValues && length(expected) > maxScannedExpectations;
+        final A ascending = merging || unique && nrOfItems > maxHashedItems ? sortedCopy(actual) : null;
+        nrOfMatchedExpectations = 0;
+        if (expectingValues) {
+            assessExpectations(merging ? merged(ascending, nrOfItems) : scanned(actual, nrOfItems), nrOfItems);
+        }
+        if (sorted) {
+            for (int j = 1; j < nrOfItems; j++) {
+                if (compare(actual, j - 1, actual, j) > 0) {
+                    findings.add(FluentIterableMatcher.theUnsortedFinding);
+                    break;
+                }
+            }
+        }
+        if (unique && (ascending != null ? hasAdjacentDuplicates(ascending, nrOfItems) : hasDuplicates(actual, nrOfItems))) {
+            findings.add(FluentIterableMatcher.theDuplicatesFinding);
+        }
+        evaluated = actual;
+        return findings.isEmpty();
+    }
+
+    /* Numbers of matched expectations and items and whether any value occurs more often than expected. */
+    private static class Tally {
+        int nrOfMatchedExpectations;
+        int nrOfMatchedItems;
+        boolean surplus;
+
+        void add(final int itemCount, final int expectationCount) {
+            if (itemCount > 0 && expectationCount > 0) {
+                nrOfMatchedExpectations += expectationCount;
+                nrOfMatchedItems += itemCount;
+            }
+            surplus |= itemCount > expectationCount;
+        }
+    }
+
+    /*
+     * Each value occurring n times in the actual array and m times in the expected values
+     * accounts for n matched items and m matched expectations if both n and m are positive.
+     */
+    private void assessExpectations(final Tally tally, final int nrOfItems) {
+        final int nrOfExpectations = length(expected);
+        nrOfMatchedExpectations = tally.nrOfMatchedExpectations;
+        if (nrOfMatchedExpectations < nrOfExpectations) {
+            findings.add(FluentIterableMatcher.theUnfulfilledExpectationsFinding);
+        }
+        if (mustNotHaveUnexpectedItems) {
+            if (nrOfItems > nrOfExpectations) {
+                findings.add(FluentIterableMatcher.theUnexpectedItemsFinding);
+            } else if (tally.surplus) {
+                findings.add(FluentIterableMatcher.theNoOneToOneFinding);
+            }
+        }
+        if (nrOfMatchedExpectations > tally.nrOfMatchedItems) {
+            findings.add(FluentIterableMatcher.theUnmatchedExpectationsFinding);
+        }
+    }
+
+    /* Counts equal values by looking up each actual value among the few distinct expected values. */
+    private Tally scanned(final A actual, final int nrOfItems) {
+        final int nrOfExpectations = length(expected);
+        final long[] values = new long[nrOfExpectations];
+        final int[] expectationCounts = new int[nrOfExpectations];
+        int nrOfValues = 0;
+        for (int i = 0; i < nrOfExpectations; i++) {
+            final long value = bits(expected, i);
+            final int v = indexOf(value, values, nrOfValues);
+            if (v < 0) {
+                values[nrOfValues] = value;
+                expectationCounts[nrOfValues++] = 1;
+            } else {
+                expectationCounts[v]++;
+            }
+        }
+        final Tally tally = new Tally();
+        final int[] itemCounts = new int[nrOfValues];
+        for (int j = 0; j < nrOfItems; j++) {
+            final int v = indexOf(bits(actual, j), values, nrOfValues);
+            if (v < 0) {
+                tally.surplus = true;
+            } else {
+                itemCounts[v]++;
+            }
+        }
+        for (int v = 0; v < nrOfValues; v++) {
+            tally.add(itemCounts[v], expectationCounts[v]);
+        }
+        return tally;
+    }
+
+    private static int indexOf(final long value, final long[] values, final int nrOfValues) {
+        for (int v = 0; v < nrOfValues; v++) {
+            if (values[v] == value) {
+                return v;
+            }
+        }
+        return -1;
+    }
+
+    /* Counts equal values by merging the sorted actual and expected values. */
+    private Tally merged(final A ascending, final int nrOfItems) {
+        final A expectedAscending = sortedCopy(expected);
+        final int nrOfExpectations = length(expectedAscending);
+        final Tally tally = new Tally();
+        int a = 0;
+        int e = 0;
+        while (a < nrOfItems || e < nrOfExpectations) {
+            final int c = a == nrOfItems ? 1 : e == nrOfExpectations ? -1 : compare(ascending, a, expectedAscending, e);
+            int itemCount = 0;
+            int expectationCount = 0;
+            if (c <= 0) {
+                do {
+                    itemCount++;
+                } while (a + itemCount < nrOfItems && compare(ascending, a, ascending, a + itemCount) == 0);
+            }
+            if (c >= 0) {
+                do {
+                    expectationCount++;
+                } while (e + expectationCount < nrOfExpectations && compare(expectedAscending, e, expectedAscending, e + expectationCount) == 0);
+            }
+            tally.add(itemCount, expectationCount);
+            a += itemCount;
+            e += expectationCount;
+        }
+        return tally;
+    }
+
+    private boolean hasAdjacentDuplicates(final A ascending, final int nrOfItems) {
+        for (int k = 1; k < nrOfItems; k++) {
+            if (compare(ascending, k - 1, ascending, k) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Open addressing with linear probing over the values' bits.
+     * Zero marks a free slot, so a zero value is tracked apart.
+     */
+    private boolean hasDuplicates(final A actual, final int nrOfItems) {
+        final long[] slots = new long[Integer.highestOneBit(Math.max(nrOfItems, 1)) << 2];
+        final int mask = slots.length - 1;
+        boolean zero = false;
+        for (int j = 0; j < nrOfItems; j++) {
+            final long value = bits(actual, j);
+            if (value == 0) {
+                if (zero) {
+                    return true;
+                }
+                zero = true;
+                continue;
+            }
+            int slot = (int) ((value * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+            while (slots[slot] != 0) {
+                if (slots[slot] == value) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = value;
+        }
+        return false;
+    }
+
+    private void validateSetup() {
+        final int nrOfExpectations = length(expected);
+        if (expectedSize >= 0 && expectedSize < nrOfExpectations) {
+            throw new IllegalArgumentException(
+                "Invalid setup. " +
+                    "Argument passed to ofSize() " +
+                    "is less than expected items specified."
+            );
+        }
+        if (mustNotHaveUnexpectedItems && expectedSize >= 0 && nrOfExpectations != expectedSize) {
+            throw new IllegalArgumentException(
+                "Invalid setup. " +
+                    "Argument passed to ofSize() " +
+                    "must match number of expected items " +
+                    "when exactly() is set."
+            );
+        }
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        prose.describeExpectations(settings(), description::appendText);
+    }
+
+    @Override
+    protected void describeMismatchSafely(final A actual, final Description mismatchDescription) {
+        if (actual != evaluated) {
+            matchesSafely(actual);
+        }
+        final Stream<Finding> findings = this.findings.stream();
+        final List<ItemResult> itemResults = getItemResults(actual);
+        prose.describe(findings, itemResults, mismatchDescription);
+
+        if (debugging) {
+            super.describeMismatchSafely(actual, mismatchDescription);
+            prose.describeDebugging(itemResults, mismatchDescription);
+        }
+    }
+
+    /**
+     * A measure for the extent to which the actual array meets the expectations.
+     *
+     * @return Value between 0 and 1.
+     */
+    @Override
+    public double getScore() {
+        if (findings.isEmpty()) {
+            return 1.0;
+        }
+        final int nrOfExpectations = length(expected);
+        final int generalExpectations = Stream.of(
+            expectedSize >= 0,
+            mustNotHaveUnexpectedItems,
+            sorted,
+            unique,
+            nrOfExpectations > 0
+        ).mapToInt(b -> b ? 1 : 0)
+            .sum()
+            + 1 // Input array not null
+            ;
+        final double allExpectations = generalExpectations + nrOfExpectations;
+        final int generalMatched = generalExpectations - findings.size();
+        return (generalMatched + nrOfMatchedExpectations) / allExpectations;
+    }
+
+    /*
+     * For the mismatch description only. Boxes the values.
+     */
+    List<ItemResult> getItemResults(final A actual) {
+        final Matcher[] matchers = expectationMatchers();
+        final Map<Object, List<Integer>> expectationsByValue = new HashMap<>();
+        for (int i = 0; i < matchers.length; i++) {
+            expectationsByValue.computeIfAbsent(((EqTo) matchers[i]).getExpectedValue(), value -> new ArrayList<>()).add(i);
+        }
+        final int nrOfItems = length(actual);
+        final Map<Object, Integer> itemCounts = new HashMap<>();
+        for (int j = 0; j < nrOfItems; j++) {
+            itemCounts.merge(valueAt(actual, j), 1, Integer::sum);
+        }
+        final BitSet unsorted = sorted ? SortedSubsequence.unsortedItems(nrOfItems, (j1, j2) -> compare(actual, j1, actual, j2)) : new BitSet();
+        final boolean oneToOneChecked = nrOfItems <= matchers.length;
+        final Map<Object, Integer> seen = new HashMap<>();
+        final List<ItemResult> itemResults = new ArrayList<>(nrOfItems);
+        for (int j = 0; j < nrOfItems; j++) {
+            final Object value = valueAt(actual, j);
+            final List<Integer> expectations = expectationsByValue.getOrDefault(value, emptyList());
+            final int expectedCount = expectations.size();
+            final int occurrence = seen.merge(value, 1, Integer::sum);
+            final boolean matched = expectedCount > 0;
+            final ItemResult.Builder<Object> builder = ItemResult.builder(value)
+                .matched(matched)
+                .withIndex(j)
+                .breakingSortOrder(unsorted.get(j))
+                .duplicate(unique && itemCounts.get(value) > 1)
+                .unwanted(mustNotHaveUnexpectedItems && (!matched || oneToOneChecked && occurrence > expectedCount));
+            if (!matched) {
+                builder.withMatchers(k -> mismatchedMatchers(k, matchers), matchers.length > 0);
+            } else if (mustNotHaveUnexpectedItems && occurrence <= expectedCount) {
+                // The same pairing as a FluentIterableMatcher's maximum matching: n-th equal item, n-th equal expectation.
+                builder.pairedWith(expectations.get(occurrence - 1));
+            }
+            itemResults.add(builder.build());
+        }
+        return itemResults;
+    }
+
+    /* In the order a FluentIterableMatcher lists mismatched item matchers without scores. */
+    private static List<ItemResult.MatcherWithIndex> mismatchedMatchers(final int j, final Matcher[] matchers) {
+        final List<ItemResult.MatcherWithIndex> mismatched = new ArrayList<>(matchers.length);
+        for (int i = 0; i < matchers.length; i++) {
+            mismatched.add(new ItemResult.MatcherWithIndex(matchers[i], i));
+        }
+        return mismatched.stream()
+            .sorted(Comparator.<ItemResult.MatcherWithIndex>comparingInt(m -> Math.abs(j - m.getIndex()))
+                .thenComparingInt(ItemResult.MatcherWithIndex::getIndex))
+            .collect(toList());
+    }
+
+    private Matcher<Object>[] expectationMatchers() {
+        @SuppressWarnings("unchecked") // No generic array creation. Each element is an EqTo<Object>.
+        final Matcher<Object>[] matchers = new Matcher[length(expected)];
+        for (int i = 0; i < matchers.length; i++) {
+            matchers[i] = new EqTo<>(valueAt(expected, i), config.getStringifiers(), debugging);
+        }
+        return matchers;
+    }
+
+    private Settings<Object> settings() {
+        final Settings<Object> settings = new Settings<>();
+        @SuppressWarnings("unchecked") // Only used to describe the expectations, never to cast the boxed items.
+        final Class<Object> klass = (Class<Object>) componentType;
+        settings.klass = klass;
+        settings.expectedSize = expectedSize;
+        settings.sorted = sorted;
+        settings.unique = unique;
+        settings.mustNotHaveUnexpectedItems = mustNotHaveUnexpectedItems;
+        settings.expectations = expectationMatchers();
+        return settings;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.BaseDescription;
+import org.hamcrest.Description;
+
+/**
+ * <p>Passes text on to another {@code Description}, indenting every new line.</p>
+ * <p>Buffers no more than a few kilobytes,
+ * so nested descriptions reach the target piece by piece instead of as one big {@code String}.
+ * Call {@link IndentingDescription#flush()} when done.</p>
+ */
+class IndentingDescription extends BaseDescription {
+
+    private static final int bufferSize = 8192;
+    private final Description target;
+    private final String indentation;
+    private final StringBuilder buffer = new StringBuilder();
+
+    IndentingDescription(final Description target, final String indentation) {
+        this.target = target;
+        this.indentation = indentation;
+    }
+
+    @Override
+    protected void append(final String str) {
+        int start = 0;
+        int newLine = str.indexOf('\n');
+        while (newLine >= 0) {
+            buffer.append(str, start, newLine + 1).append(indentation);
+            start = newLine + 1;
+            newLine = str.indexOf('\n', start);
+        }
+        buffer.append(str, start, str.length());
+        flushIfFull();
+    }
+
+    @Override
+    protected void append(final char c) {
+        buffer.append(c);
+        if (c == '\n') {
+            buffer.append(indentation);
+        }
+        flushIfFull();
+    }
+
+    private void flushIfFull() {
+        if (buffer.length() >= bufferSize) {
+            flush();
+        }
+    }
+
+    void flush() {
+        if (buffer.length() > 0) {
+            target.appendText(buffer.toString());
+            buffer.setLength(0);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.hamcrest.Matcher;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.IntFunction;
 
 class ItemResult<X> {
 
@@ -35,21 +36,60 @@ class ItemResult<X> {
     private final int index;
     private final boolean matched;
     private final X actual;
-    private final List<MatcherWithIndex> matchers;
+    private final IntFunction<List<MatcherWithIndex>> mismatchedMatchers;
+    private final boolean mismatching;
+    private List<MatcherWithIndex> matchers;
     private final boolean breakingSort;
     private final boolean breakingItemOrder;
     private final boolean duplicate;
     private final boolean obsolete;
+    private final int pairedExpectation;
 
     private ItemResult(final Builder<X> builder) {
-        matched = builder.matched;
-        index = builder.index;
-        actual = builder.actual;
-        matchers = builder.matchers;
-        breakingSort = builder.breakingSort;
-        breakingItemOrder = builder.breakingItemOrder;
-        duplicate = builder.duplicate;
-        obsolete = builder.obsolete;
+        this(builder.actual,
+            builder.index,
+            builder.matched,
+            builder.matchers,
+            builder.mismatching,
+            builder.breakingSort,
+            builder.breakingItemOrder,
+            builder.duplicate,
+            builder.obsolete,
+            builder.pairedExpectation);
+    }
+
+    ItemResult(final X actual,
+               final int index,
+               final boolean matched,
+               final List<MatcherWithIndex> matchers,
+               final boolean breakingSort,
+               final boolean breakingItemOrder,
+               final boolean duplicate,
+               final boolean obsolete) {
+        this(actual, index, matched, j -> matchers, !matchers.isEmpty(), breakingSort, breakingItemOrder, duplicate, obsolete, -1);
+    }
+
+    /* The mismatched item Matchers are listed on first demand, whether there are any is known upfront. */
+    ItemResult(final X actual,
+               final int index,
+               final boolean matched,
+               final IntFunction<List<MatcherWithIndex>> mismatchedMatchers,
+               final boolean mismatching,
+               final boolean breakingSort,
+               final boolean breakingItemOrder,
+               final boolean duplicate,
+               final boolean obsolete,
+               final int pairedExpectation) {
+        this.actual = actual;
+        this.index = index;
+        this.matched = matched;
+        this.mismatchedMatchers = mismatchedMatchers;
+        this.mismatching = mismatching;
+        this.breakingSort = breakingSort;
+        this.breakingItemOrder = breakingItemOrder;
+        this.duplicate = duplicate;
+        this.obsolete = obsolete;
+        this.pairedExpectation = pairedExpectation;
     }
 
     static <X> Builder<X> builder(final X actual){
@@ -61,11 +101,13 @@ class ItemResult<X> {
         private boolean matched;
         private int index;
         private final X actual;
-        private List<MatcherWithIndex> matchers = Collections.emptyList();
+        private IntFunction<List<MatcherWithIndex>> matchers = j -> Collections.emptyList();
+        private boolean mismatching;
         private boolean breakingSort;
         private boolean breakingItemOrder;
         private boolean duplicate;
         private boolean obsolete;
+        private int pairedExpectation = -1;
 
         private Builder(final X actual) {
             this.actual = actual;
@@ -86,7 +128,13 @@ class ItemResult<X> {
         }
 
         Builder<X> withMatchers(final List<MatcherWithIndex> matchers) {
+            return withMatchers(j -> matchers, !matchers.isEmpty());
+        }
+
+        /* For the mismatched item Matchers to be listed only if asked for. */
+        Builder<X> withMatchers(final IntFunction<List<MatcherWithIndex>> matchers, final boolean mismatching) {
             this.matchers = matchers;
+            this.mismatching = mismatching;
             return this;
         }
 
@@ -109,6 +157,11 @@ class ItemResult<X> {
             this.obsolete = obsolete;
             return this;
         }
+
+        Builder<X> pairedWith(final int expectationIndex) {
+            this.pairedExpectation = expectationIndex;
+            return this;
+        }
     }
 
     boolean isMatched() {
@@ -125,9 +178,16 @@ class ItemResult<X> {
     }
 
     List<MatcherWithIndex> getMismatchedItemMatchers() {
+        if (matchers == null) {
+            matchers = mismatchedMatchers.apply(index);
+        }
         return matchers;
     }
 
+    boolean hasMismatchedItemMatchers() {
+        return mismatching;
+    }
+
     boolean isBreakingSortOrder() {
         return breakingSort;
     }
@@ -144,6 +204,14 @@ class ItemResult<X> {
         return obsolete;
     }
 
+    /**
+     * @return Index of the expectation the matched item is paired with in a one-to-one relationship,
+     * {@code -1} if there is none or it doesn't matter.
+     */
+    int getPairedExpectation() {
+        return pairedExpectation;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -0,0 +1,105 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * <p>The {@link ItemResult}s of an evaluation, stored by column:
+ * the actual items as they are and one bit set per flag.</p>
+ * <p>An {@code ItemResult} is created (and kept) only when it's asked for.
+ * The mismatched item {@code Matcher}s of an unmatched item are listed only when they're asked for.
+ * Whether there are any is a cheap test.</p>
+ */
+@SuppressWarnings("rawtypes")
+class ItemResults<X> extends AbstractList<ItemResult> implements RandomAccess {
+
+    private final List<X> actual;
+    private final BitSet matched;
+    private final BitSet unsorted;
+    private final BitSet unordered;
+    private final BitSet duplicates;
+    private final BitSet unwanted;
+    private final IntFunction<List<ItemResult.MatcherWithIndex>> mismatchedMatchers;
+    private final IntPredicate mismatching;
+    private final IntUnaryOperator pairedExpectation;
+    private final ItemResult[] rows;
+
+    ItemResults(final List<X> actual,
+                final BitSet matched,
+                final BitSet unsorted,
+                final BitSet unordered,
+                final BitSet duplicates,
+                final BitSet unwanted,
+                final IntFunction<List<ItemResult.MatcherWithIndex>> mismatchedMatchers,
+                final IntPredicate mismatching,
+                final IntUnaryOperator pairedExpectation) {
+        this.actual = actual;
+        this.matched = matched;
+        this.unsorted = unsorted;
+        this.unordered = unordered;
+        this.duplicates = duplicates;
+        this.unwanted = unwanted;
+        this.mismatchedMatchers = mismatchedMatchers;
+        this.mismatching = mismatching;
+        this.pairedExpectation = pairedExpectation;
+        this.rows = new ItemResult[actual.size()];
+    }
+
+    @Override
+    public ItemResult get(final int j) {
+        ItemResult row = rows[j];
+        if (row == null) {
+            final boolean matched = this.matched.get(j);
+            row = new ItemResult<>(
+                actual.get(j),
+                j,
+                matched,
+                matched ? k -> emptyList() : mismatchedMatchers,
+                !matched && mismatching.test(j),
+                unsorted.get(j),
+                unordered.get(j),
+                duplicates.get(j),
+                unwanted.get(j),
+                matched ? pairedExpectation.applyAsInt(j) : -1
+            );
+            rows[j] = row;
+        }
+        return row;
+    }
+
+    /**
+     * @return Number of items breaking any expectation, from the flags alone.
+     */
+    int nrOfViolating() {
+        final BitSet violating = new BitSet(rows.length);
+        violating.or(unsorted);
+        violating.or(unordered);
+        violating.or(duplicates);
+        violating.or(unwanted);
+        for (int j = matched.nextClearBit(0); j < rows.length; j = matched.nextClearBit(j + 1)) {
+            if (mismatching.test(j)) {
+                violating.set(j);
+            }
+        }
+        return violating.cardinality();
+    }
+
+    @Override
+    public int size() {
+        return rows.length;
+    }
+}
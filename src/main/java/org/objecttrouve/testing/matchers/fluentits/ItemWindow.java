@@ -0,0 +1,103 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.Matcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.nCopies;
+
+/**
+ * <p>Retains the {@link ItemResult}s of a streamed {@code Iterable} worth reporting.</p>
+ * <p>These are the first items and the items around violations (up to {@code radius} before and after each),
+ * but no more than {@code limit} items altogether.
+ * Other items are dropped as soon as they can no longer end up in the report.</p>
+ */
+@SuppressWarnings("rawtypes")
+class ItemWindow<X> {
+
+    private final int radius;
+    private final int limit;
+    private final int capacity;
+    private final Matcher[] expectations;
+    private final List<ItemResult> retained = new ArrayList<>();
+    // Ring buffer of the last items seen since the last retained item. No more than could ever be retained.
+    private final List<X> items;
+    private final int[] indices;
+    private final boolean[] matched;
+    private final boolean[] unsorted;
+    private int start;
+    private int buffered;
+    private int trailing;
+
+    ItemWindow(final int radius, final int limit, final Matcher[] expectations) {
+        this.radius = radius;
+        this.limit = limit;
+        this.expectations = expectations;
+        this.capacity = Math.min(radius, limit);
+        this.items = new ArrayList<>(nCopies(capacity, null));
+        this.indices = new int[capacity];
+        this.matched = new boolean[capacity];
+        this.unsorted = new boolean[capacity];
+        this.trailing = radius;
+    }
+
+    void add(final X item, final int index, final boolean matched, final boolean unsorted, final boolean violating) {
+        if (retained.size() >= limit) {
+            return;
+        }
+        if (violating) {
+            for (int k = 0; k < buffered; k++) {
+                final int b = (start + k) % capacity;
+                retain(items.set(b, null), indices[b], this.matched[b], this.unsorted[b]);
+            }
+            start = 0;
+            buffered = 0;
+            retain(item, index, matched, unsorted);
+            trailing = radius;
+        } else if (trailing > 0) {
+            retain(item, index, matched, unsorted);
+            trailing--;
+        } else if (capacity > 0) {
+            final int b = (start + buffered) % capacity;
+            items.set(b, item);
+            indices[b] = index;
+            this.matched[b] = matched;
+            this.unsorted[b] = unsorted;
+            if (buffered < capacity) {
+                buffered++;
+            } else {
+                start = (start + 1) % capacity;
+            }
+        }
+    }
+
+    List<ItemResult> retained() {
+        return retained;
+    }
+
+    private void retain(final X item, final int index, final boolean matched, final boolean unsorted) {
+        if (retained.size() >= limit) {
+            return;
+        }
+        final ItemResult.Builder<X> builder = ItemResult.builder(item)
+            .matched(matched)
+            .withIndex(index)
+            .breakingSortOrder(unsorted);
+        if (!matched) {
+            final List<ItemResult.MatcherWithIndex> mismatched = new ArrayList<>(expectations.length);
+            for (int i = 0; i < expectations.length; i++) {
+                mismatched.add(new ItemResult.MatcherWithIndex(expectations[i], i));
+            }
+            builder.withMatchers(mismatched);
+        }
+        retained.add(builder.build());
+    }
+}
@@ -1,68 +1,212 @@
 package org.objecttrouve.testing.matchers.fluentits;
 
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * <p>Which expectation matched which actual item and how well the {@code ScorableMatcher}s fitted the items they didn't match.</p>
+ * <p>Only matched cells and scored mismatches are stored (per expectation, as sorted item indices),
+ * so the memory needed grows with the number of matches rather than with
+ * the number of expectations times the number of actual items.</p>
+ * <p>Different rows may be written by different threads concurrently.</p>
+ * <p>With a {@link Scorer}, the scores of cells that aren't matches are computed when asked for (and kept)
+ * rather than when the expectation is applied.</p>
+ */
 class MatchMatrix {
 
-    private final double[][] matchMatrix;
+    private static final int[] noIndices = new int[0];
+    private static final double[] noScores = new double[0];
+
+    private final Row[] rows;
     private final int nrOfExpectations;
     private final int nrOfActualItems;
+    private final Scorer scorer;
+    private MaximumMatching maximumMatching;
+
+    /* Computes the score of a cell that isn't a match. */
+    interface Scorer {
+        double score(int expectationIndex, int actualItemIndex);
+    }
 
     MatchMatrix(final int nrOfExpectations, final int nrOfActualItems) {
+        this(nrOfExpectations, nrOfActualItems, null);
+    }
+
+    MatchMatrix(final int nrOfExpectations, final int nrOfActualItems, final Scorer scorer) {
         this.nrOfExpectations = nrOfExpectations;
         this.nrOfActualItems = nrOfActualItems;
-        matchMatrix = new double[nrOfExpectations][nrOfActualItems];
+        this.rows = new Row[nrOfExpectations];
+        this.scorer = scorer;
     }
 
     void match(final int expectationIndex, final int actualItemIndex) {
-        matchMatrix[expectationIndex][actualItemIndex] = 1.0;
+        maximumMatching = null;
+        final Row row = row(expectationIndex);
+        row.removeScore(actualItemIndex);
+        row.addMatch(actualItemIndex);
     }
 
-    void scoredMismatch(final int expectationIndex, final int actualItemIndex, double score) {
-        matchMatrix[expectationIndex][actualItemIndex] = score;
+    boolean matched(final int expectationIndex, final int actualItemIndex) {
+        final Row row = rows[expectationIndex];
+        return row != null && row.isMatch(actualItemIndex);
     }
 
-    boolean matched(final int expectationIndex, final int actualItemIndex) {
-        return matchMatrix[expectationIndex][actualItemIndex] == 1.0;
+    void forEachMatch(final int expectationIndex, final IntConsumer actualItemIndexConsumer) {
+        final Row row = rows[expectationIndex];
+        if (row != null) {
+            for (int k = 0; k < row.nrOfMatches; k++) {
+                actualItemIndexConsumer.accept(row.matches[k]);
+            }
+        }
     }
 
     double getScore(final int expectationIndex, final int actualItemIndex) {
-        return matchMatrix[expectationIndex][actualItemIndex];
+        final Row row = rows[expectationIndex];
+        if (row != null && row.isMatch(actualItemIndex)) {
+            return 1.0;
+        }
+        final int k = row == null ? -1 : row.indexOfScore(actualItemIndex);
+        if (k >= 0) {
+            return row.scores[k];
+        }
+        if (scorer == null) {
+            return 0.0;
+        }
+        final double score = scorer.score(expectationIndex, actualItemIndex);
+        row(expectationIndex).putScore(actualItemIndex, score);
+        return score;
+    }
+
+    /**
+     * @return Rough estimate of the memory held by the stored cells in bytes.
+     */
+    long sizeInBytes() {
+        long bytes = 16L + 4L * rows.length;
+        for (final Row row : rows) {
+            if (row != null) {
+                bytes += row.sizeInBytes();
+            }
+        }
+        return bytes;
     }
 
+    /**
+     * @return {@code true} if every actual item can be paired with a distinct expectation that matches it.
+     */
     boolean isOneToOne() {
-        final double[][] oneToOneMatrix = new double[nrOfExpectations][nrOfActualItems];
-        // Calculate an "exclusiveness" score for each match...
-        for (int i = 0; i < nrOfExpectations; i++) {
-            double exclusiveness = getExclusiveness(i);
-            for (int j = 0; j < nrOfActualItems; j++) {
-                if (matched(i, j)) {
-                    oneToOneMatrix[i][j] = exclusiveness;
+        return maximumMatching().size() == nrOfActualItems;
+    }
+
+    MaximumMatching maximumMatching() {
+        if (maximumMatching == null) {
+            maximumMatching = new MaximumMatching(expectationsPerItem(), nrOfExpectations);
+        }
+        return maximumMatching;
+    }
+
+    /**
+     * @return Per actual item, the indices of the expectations matching it. (In ascending order.)
+     */
+    int[][] expectationsPerItem() {
+        final int[] degrees = new int[nrOfActualItems];
+        for (final Row row : rows) {
+            if (row != null) {
+                for (int k = 0; k < row.nrOfMatches; k++) {
+                    degrees[row.matches[k]]++;
                 }
             }
         }
-        // Check if all actual items have enough matchers that match (non-exclusively...)
+        final int[][] expectationsPerItem = new int[nrOfActualItems][];
         for (int j = 0; j < nrOfActualItems; j++) {
-            double matcherCoverage = 0.0;
-            for (int i = 0; i < nrOfExpectations; i++) {
-                matcherCoverage += oneToOneMatrix[i][j];
-            }
-            // TODO: Double comparison
-            if (matcherCoverage < 1.0){
-                return false;
+            expectationsPerItem[j] = degrees[j] == 0 ? noIndices : new int[degrees[j]];
+            degrees[j] = 0;
+        }
+        for (int i = 0; i < nrOfExpectations; i++) {
+            final Row row = rows[i];
+            if (row != null) {
+                for (int k = 0; k < row.nrOfMatches; k++) {
+                    final int j = row.matches[k];
+                    expectationsPerItem[j][degrees[j]++] = i;
+                }
             }
         }
-        return true;
-
+        return expectationsPerItem;
+    }
 
+    private Row row(final int expectationIndex) {
+        Row row = rows[expectationIndex];
+        if (row == null) {
+            row = new Row();
+            rows[expectationIndex] = row;
+        }
+        return row;
     }
 
-    private double getExclusiveness(int expectationIndex) {
-        int itemsMatchedByCurrentMatcher = 0;
-        for (int actualItemIndex = 0; actualItemIndex < nrOfActualItems; actualItemIndex++) {
-            if (matched(expectationIndex, actualItemIndex)) {
-                itemsMatchedByCurrentMatcher ++;
+    /* The cells of one expectation. Item indices are kept sorted. Usually they're added in ascending order. */
+    private static class Row {
+
+        private int[] matches = noIndices;
+        private int nrOfMatches;
+        private int[] scored = noIndices;
+        private double[] scores = noScores;
+        private int nrOfScored;
+
+        boolean isMatch(final int j) {
+            return Arrays.binarySearch(matches, 0, nrOfMatches, j) >= 0;
+        }
+
+        int indexOfScore(final int j) {
+            return Arrays.binarySearch(scored, 0, nrOfScored, j);
+        }
+
+        void addMatch(final int j) {
+            final int k = Arrays.binarySearch(matches, 0, nrOfMatches, j);
+            if (k >= 0) {
+                return;
             }
+            final int insertion = -k - 1;
+            if (nrOfMatches == matches.length) {
+                matches = Arrays.copyOf(matches, grow(matches.length));
+            }
+            System.arraycopy(matches, insertion, matches, insertion + 1, nrOfMatches - insertion);
+            matches[insertion] = j;
+            nrOfMatches++;
+        }
+
+        void putScore(final int j, final double score) {
+            final int k = Arrays.binarySearch(scored, 0, nrOfScored, j);
+            if (k >= 0) {
+                scores[k] = score;
+                return;
+            }
+            final int insertion = -k - 1;
+            if (nrOfScored == scored.length) {
+                scored = Arrays.copyOf(scored, grow(scored.length));
+                scores = Arrays.copyOf(scores, scored.length);
+            }
+            System.arraycopy(scored, insertion, scored, insertion + 1, nrOfScored - insertion);
+            System.arraycopy(scores, insertion, scores, insertion + 1, nrOfScored - insertion);
+            scored[insertion] = j;
+            scores[insertion] = score;
+            nrOfScored++;
+        }
+
+        void removeScore(final int j) {
+            final int k = Arrays.binarySearch(scored, 0, nrOfScored, j);
+            if (k >= 0) {
+                System.arraycopy(scored, k + 1, scored, k, nrOfScored - k - 1);
+                System.arraycopy(scores, k + 1, scores, k, nrOfScored - k - 1);
+                nrOfScored--;
+            }
+        }
+
+        long sizeInBytes() {
+            return 48L + 4L * matches.length + 12L * scored.length;
+        }
+
+        private static int grow(final int length) {
+            return Math.max(4, length + (length >> 1));
         }
-        return 1.0d/itemsMatchedByCurrentMatcher;
     }
 
 }
@@ -0,0 +1,140 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import java.util.Arrays;
+
+/**
+ * <p>Maximum bipartite matching between actual items and expectations (Hopcroft-Karp, O(E * sqrt(V))).</p>
+ * <p>Each actual item is paired with at most one expectation that matches it and vice versa.</p>
+ */
+class MaximumMatching {
+
+    private static final int unmatched = -1;
+    private static final int infinity = Integer.MAX_VALUE;
+
+    private final int[][] expectationsPerItem;
+    private final int[] expectationOfItem;
+    private final int[] itemOfExpectation;
+    private final int[] distance;
+    private final int[] nextEdge;
+    private final int[] path;
+    private final int[] queue;
+    private int size;
+
+    /**
+     * @param expectationsPerItem For each actual item the indices of the expectations matching it.
+     * @param nrOfExpectations Total number of expectations.
+     */
+    MaximumMatching(final int[][] expectationsPerItem, final int nrOfExpectations) {
+        this.expectationsPerItem = expectationsPerItem;
+        final int nrOfActualItems = expectationsPerItem.length;
+        this.expectationOfItem = new int[nrOfActualItems];
+        this.itemOfExpectation = new int[nrOfExpectations];
+        this.distance = new int[nrOfActualItems];
+        this.nextEdge = new int[nrOfActualItems];
+        this.path = new int[nrOfActualItems];
+        this.queue = new int[nrOfActualItems];
+        Arrays.fill(expectationOfItem, unmatched);
+        Arrays.fill(itemOfExpectation, unmatched);
+        compute();
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param actualItemIndex Index of the actual item.
+     * @return Index of the expectation paired with the item or {@code -1} if the item remained unpaired.
+     */
+    int expectationOf(final int actualItemIndex) {
+        return expectationOfItem[actualItemIndex];
+    }
+
+    /**
+     * @param expectationIndex Index of the expectation.
+     * @return Index of the actual item paired with the expectation or {@code -1} if the expectation remained unpaired.
+     */
+    int itemOf(final int expectationIndex) {
+        return itemOfExpectation[expectationIndex];
+    }
+
+    private void compute() {
+        while (layer()) {
+            Arrays.fill(nextEdge, 0);
+            for (int item = 0; item < expectationsPerItem.length; item++) {
+                if (expectationOfItem[item] == unmatched && augment(item)) {
+                    size++;
+                }
+            }
+        }
+    }
+
+    /* BFS from all free items. Returns whether an augmenting path exists. */
+    private boolean layer() {
+        int head = 0;
+        int tail = 0;
+        for (int item = 0; item < expectationsPerItem.length; item++) {
+            if (expectationOfItem[item] == unmatched) {
+                distance[item] = 0;
+                queue[tail++] = item;
+            } else {
+                distance[item] = infinity;
+            }
+        }
+        boolean found = false;
+        while (head < tail) {
+            final int item = queue[head++];
+            for (final int expectation : expectationsPerItem[item]) {
+                final int pairedItem = itemOfExpectation[expectation];
+                if (pairedItem == unmatched) {
+                    found = true;
+                } else if (distance[pairedItem] == infinity) {
+                    distance[pairedItem] = distance[item] + 1;
+                    queue[tail++] = pairedItem;
+                }
+            }
+        }
+        return found;
+    }
+
+    /* Iterative DFS along the BFS layers, so that long alternating paths don't overflow the stack. */
+    private boolean augment(final int root) {
+        int top = 0;
+        path[top++] = root;
+        while (top > 0) {
+            final int item = path[top - 1];
+            final int[] candidates = expectationsPerItem[item];
+            if (nextEdge[item] == candidates.length) {
+                distance[item] = infinity;
+                top--;
+                if (top > 0) {
+                    nextEdge[path[top - 1]]++;
+                }
+                continue;
+            }
+            final int pairedItem = itemOfExpectation[candidates[nextEdge[item]]];
+            if (pairedItem == unmatched) {
+                for (int k = top - 1; k >= 0; k--) {
+                    final int it = path[k];
+                    final int expectation = expectationsPerItem[it][nextEdge[it]];
+                    expectationOfItem[it] = expectation;
+                    itemOfExpectation[expectation] = it;
+                }
+                return true;
+            }
+            if (distance[pairedItem] == distance[item] + 1) {
+                path[top++] = pairedItem;
+            } else {
+                nextEdge[item]++;
+            }
+        }
+        return false;
+    }
+}
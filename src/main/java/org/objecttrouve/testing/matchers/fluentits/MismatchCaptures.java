@@ -0,0 +1,50 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * <p>Descriptions of item {@code Matcher}s for the debug output,
+ * computed on first use and kept as long as the evaluation they belong to.</p>
+ * <p>Only the mismatches of printed items are described, from {@code describeMismatch} alone,
+ * without applying the {@code Matcher} again.
+ * A {@code Matcher} instance describes itself once
+ * and each of its mismatches once per actual item,
+ * no matter how often the mismatch is described
+ * or under how many expectation indices the instance occurs.</p>
+ */
+@SuppressWarnings("rawtypes")
+class MismatchCaptures {
+
+    private final Map<Matcher, String> selfDescriptions = new IdentityHashMap<>();
+    private final Map<Matcher, Map<Integer, String>> mismatchDescriptions = new IdentityHashMap<>();
+
+    String selfDescription(final Matcher matcher) {
+        return selfDescriptions.computeIfAbsent(matcher, m -> {
+            final StringDescription selfDescription = new StringDescription();
+            m.describeTo(selfDescription);
+            return selfDescription.toString();
+        });
+    }
+
+    String mismatchDescription(final Matcher matcher, final int actualItemIndex, final Object actual) {
+        return mismatchDescriptions
+            .computeIfAbsent(matcher, m -> new HashMap<>())
+            .computeIfAbsent(actualItemIndex, j -> {
+                final StringDescription mismatchDescription = new StringDescription();
+                matcher.describeMismatch(actual, mismatchDescription);
+                return mismatchDescription.toString();
+            });
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import java.util.Arrays;
+
+/**
+ * <p>Pairs rows with distinct columns so that the sum of the paired scores is maximal
+ * (Hungarian method with potentials, O(n * n * m) for n rows and m columns, n &le; m).</p>
+ * <p>If there are fewer columns than rows, some rows remain unpaired and vice versa.</p>
+ */
+class OptimalPairing {
+
+    private static final int unpaired = -1;
+
+    private OptimalPairing() {
+    }
+
+    /**
+     * @param scores Score per row and column. All rows have the same length.
+     * @param nrOfColumns Number of columns.
+     * @return For each row the column it's paired with or {@code -1}.
+     */
+    static int[] columnsOfRows(final double[][] scores, final int nrOfColumns) {
+        final int nrOfRows = scores.length;
+        if (nrOfRows <= nrOfColumns) {
+            return solve(scores, nrOfRows, nrOfColumns);
+        }
+        final double[][] transposed = new double[nrOfColumns][nrOfRows];
+        for (int r = 0; r < nrOfRows; r++) {
+            for (int c = 0; c < nrOfColumns; c++) {
+                transposed[c][r] = scores[r][c];
+            }
+        }
+        final int[] rowsOfColumns = solve(transposed, nrOfColumns, nrOfRows);
+        final int[] columnsOfRows = new int[nrOfRows];
+        Arrays.fill(columnsOfRows, unpaired);
+        for (int c = 0; c < nrOfColumns; c++) {
+            columnsOfRows[rowsOfColumns[c]] = c;
+        }
+        return columnsOfRows;
+    }
+
+    /* Minimizes the negated scores. Indices 1-based, 0 being a virtual column. */
+    private static int[] solve(final double[][] scores, final int n, final int m) {
+        final double[] rowPotential = new double[n + 1];
+        final double[] columnPotential = new double[m + 1];
+        final int[] rowOfColumn = new int[m + 1];
+        final int[] way = new int[m + 1];
+        final double[] minimum = new double[m + 1];
+        final boolean[] used = new boolean[m + 1];
+        for (int row = 1; row <= n; row++) {
+            rowOfColumn[0] = row;
+            int column = 0;
+            Arrays.fill(minimum, Double.POSITIVE_INFINITY);
+            Arrays.fill(used, false);
+            do {
+                used[column] = true;
+                final int currentRow = rowOfColumn[column];
+                double delta = Double.POSITIVE_INFINITY;
+                int nextColumn = 0;
+                for (int c = 1; c <= m; c++) {
+                    if (!used[c]) {
+                        final double reduced = -scores[currentRow - 1][c - 1] - rowPotential[currentRow] - columnPotential[c];
+                        if (reduced < minimum[c]) {
+                            minimum[c] = reduced;
+                            way[c] = column;
+                        }
+                        if (minimum[c] < delta) {
+                            delta = minimum[c];
+                            nextColumn = c;
+                        }
+                    }
+                }
+                for (int c = 0; c <= m; c++) {
+                    if (used[c]) {
+                        rowPotential[rowOfColumn[c]] += delta;
+                        columnPotential[c] -= delta;
+                    } else {
+                        minimum[c] -= delta;
+                    }
+                }
+                column = nextColumn;
+            } while (rowOfColumn[column] != 0);
+            do {
+                final int previous = way[column];
+                rowOfColumn[column] = rowOfColumn[previous];
+                column = previous;
+            } while (column != 0);
+        }
+        final int[] columnsOfRows = new int[n];
+        Arrays.fill(columnsOfRows, unpaired);
+        for (int c = 1; c <= m; c++) {
+            if (rowOfColumn[c] != 0) {
+                columnsOfRows[rowOfColumn[c] - 1] = c - 1;
+            }
+        }
+        return columnsOfRows;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import java.util.BitSet;
+
+/**
+ * <p>Longest alignment of the expectations (in declaration order) with the actual items (in iteration order).
+ * Like a longest common subsequence where an item counts as equal to each expectation matching it.</p>
+ * <p>The matching pairs are chained as in a longest strictly increasing subsequence (Hunt-Szymanski),
+ * in O(r * log(m)) for r matching pairs and m expectations.</p>
+ */
+class OrderAlignment {
+
+    private static final int none = -1;
+
+    private OrderAlignment() {
+    }
+
+    /**
+     * @param expectationsPerItem For each actual item the indices of the expectations matching it. (In ascending order.)
+     * @return Indices of the actual items in the longest alignment.
+     */
+    static BitSet alignedItems(final int[][] expectationsPerItem) {
+        int nrOfPairs = 0;
+        for (final int[] expectations : expectationsPerItem) {
+            nrOfPairs += expectations.length;
+        }
+        final int[] itemOfPair = new int[nrOfPairs];
+        final int[] expectationOfPair = new int[nrOfPairs];
+        final int[] previousPair = new int[nrOfPairs];
+        // Per chain length, the last pair of the chain ending with the lowest expectation index.
+        final int[] tails = new int[nrOfPairs];
+        int length = 0;
+        int pair = 0;
+        for (int j = 0; j < expectationsPerItem.length; j++) {
+            final int[] expectations = expectationsPerItem[j];
+            // Descending, so that no chain takes two pairs of the same item.
+            for (int k = expectations.length - 1; k >= 0; k--) {
+                final int i = expectations[k];
+                int low = 0;
+                int high = length;
+                while (low < high) {
+                    final int middle = (low + high) >>> 1;
+                    if (expectationOfPair[tails[middle]] < i) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                if (low < length && expectationOfPair[tails[low]] == i) {
+                    // Keep the earlier item.
+                    continue;
+                }
+                itemOfPair[pair] = j;
+                expectationOfPair[pair] = i;
+                previousPair[pair] = low > 0 ? tails[low - 1] : none;
+                tails[low] = pair;
+                if (low == length) {
+                    length++;
+                }
+                pair++;
+            }
+        }
+        final BitSet aligned = new BitSet(expectationsPerItem.length);
+        for (int p = length > 0 ? tails[length - 1] : none; p != none; p = previousPair[p]) {
+            aligned.set(itemOfPair[p]);
+        }
+        return aligned;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+import org.objecttrouve.testing.matchers.api.ScorableMatcher;
+
+import java.util.function.Function;
+
+/**
+ * <p>Applies a {@link FluentPrimitiveArrayMatcher} to the values of a primitive stream.</p>
+ * <p>Streams can be consumed only once.
+ * So the values collected by {@code matchesSafely()} are kept for describing a mismatch of the same stream instance.</p>
+ *
+ * @param <S> Type of the primitive stream.
+ * @param <A> Type of the primitive array.
+ */
+class PrimitiveStreamMatcher<S, A> extends TypeSafeMatcher<S> implements ScorableMatcher {
+
+    private final Function<S, A> toArray;
+    private final FluentPrimitiveArrayMatcher<A, ?> arrayMatcher;
+    private S lastStream;
+    private A lastValues;
+
+    PrimitiveStreamMatcher(final Class<S> streamClass, final Function<S, A> toArray, final FluentPrimitiveArrayMatcher<A, ?> arrayMatcher) {
+        super(streamClass);
+        this.toArray = toArray;
+        this.arrayMatcher = arrayMatcher;
+    }
+
+    @Override
+    protected boolean matchesSafely(final S stream) {
+        lastStream = stream;
+        lastValues = toArray.apply(stream);
+        return arrayMatcher.matchesSafely(lastValues);
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        arrayMatcher.describeTo(description);
+    }
+
+    @Override
+    protected void describeMismatchSafely(final S stream, final Description mismatchDescription) {
+        final A values = stream == lastStream ? lastValues : toArray.apply(stream);
+        arrayMatcher.describeMismatchSafely(values, mismatchDescription);
+    }
+
+    @Override
+    public double getScore() {
+        return arrayMatcher.getScore();
+    }
+}
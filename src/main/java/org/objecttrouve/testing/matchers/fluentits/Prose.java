@@ -11,15 +11,14 @@ import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.SelfDescribing;
 import org.hamcrest.StringDescription;
+import org.objecttrouve.testing.matchers.api.Config;
 import org.objecttrouve.testing.matchers.api.Stringifiers;
 import org.objecttrouve.testing.matchers.api.Symbols;
 
 import java.util.*;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 
@@ -27,13 +26,38 @@ import static java.util.stream.Collectors.toList;
 class Prose<X> {
 
     private static final int actualItemMaxLength = 30;
+    // Item lines whose actual items determine the width of the item column.
+    private static final int widthSampleSize = 100;
     private static final String iterable = Iterable.class.getSimpleName();
+    private static final int itemLine = 0;
+    private static final int collapsedLine = 1;
+    private static final int truncatedLine = 2;
+    private static final int gapLine = 3;
     private final Symbols symbols;
     private final Stringifiers stringifiers;
+    private final Cells cells;
+    private final int maxItemLines;
+    private final int contextRadius;
 
     Prose(final Symbols symbols, final Stringifiers stringifiers) {
+        this(symbols, stringifiers, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    Prose(final Config config) {
+        this(config.getSymbols(), config.getStringifiers(), config.getMaxItemLines(), config.getContextRadius());
+    }
+
+    /**
+     * @param maxItemLines Maximum number of lines describing items. Further items are summed up in a single line.
+     * @param contextRadius Number of items shown before and after each violating item.
+     *                      Runs of other items are collapsed into a single line.
+     */
+    Prose(final Symbols symbols, final Stringifiers stringifiers, final int maxItemLines, final int contextRadius) {
         this.symbols = symbols;
         this.stringifiers = stringifiers;
+        this.cells = new Cells(symbols);
+        this.maxItemLines = maxItemLines;
+        this.contextRadius = contextRadius;
     }
 
     void describeExpectations(final Settings settings, final Consumer<String> description) {
@@ -61,74 +85,240 @@ class Prose<X> {
     }
 
     String actualItemString(final String actual, final int limit) {
-        return limit > 0 ? format("%1$-" + limit + "." + limit + "s", linify(Objects.toString(actual))) : "";
-    }
-
-    private String linify(final String str) {
-        return str.trim().replaceAll("\n", "; ").replaceAll("\\s+", " ");
+        if (limit <= 0) {
+            return "";
+        }
+        final StringBuilder itemString = new StringBuilder(limit);
+        Cells.appendLinified(itemString, Objects.toString(actual), limit);
+        return itemString.toString();
     }
 
     String matcherSaying(final String self) {
-        return linify(self);
+        final StringBuilder saying = new StringBuilder(self.length());
+        Cells.appendLinified(saying, self);
+        return saying.toString();
     }
 
     void describe(final Stream<Finding> findings, final List<ItemResult> itemResults, final Description mismatchDescription) {
+        final int nrOfViolatingItems = (int) itemResults.stream().filter(Prose::isViolating).count();
+        describe(findings, itemResults, itemResults.size(), nrOfViolatingItems, mismatchDescription);
+    }
+
+    /**
+     * @param collectionLength Number of items in the collection, the item results may cover fewer.
+     * @param nrOfViolatingItems Number of violating items in the whole collection.
+     */
+    void describe(final Stream<Finding> findings, final List<ItemResult> itemResults, final int collectionLength, final int nrOfViolatingItems, final Description mismatchDescription) {
         final List<SelfDescribing> fs = findings
             .map(Finding::getDescription)
             .map(s -> (SelfDescribing) description1 -> description1.appendValue(s))
             .collect(toList());
         mismatchDescription.appendList("\nFindings:\n", "\n", "\n", fs);
-        final Map<ItemResult, String> stringifiedActuals = new HashMap<>();
-        for (final ItemResult itemResult : itemResults) {
-            stringifiedActuals.put(itemResult, stringifiers.getShortStringifier(itemResult.getActual()).orElse(Objects::toString).apply(itemResult.getActual()));
+        final List<int[]> lines = layout(itemResults, collectionLength);
+        final String[] sample = new String[Math.min(lines.size(), widthSampleSize)];
+        int longestActual = -1;
+        for (int k = 0; k < sample.length && longestActual < actualItemMaxLength; k++) {
+            if (lines.get(k)[2] == itemLine) {
+                sample[k] = shortString(itemResults.get(lines.get(k)[0]).getActual());
+                longestActual = Math.max(longestActual, sample[k].length());
+            }
         }
-        final int longestActual = stringifiedActuals.values().stream().mapToInt(String::length).max().orElse(1);
+        final int width = longestActual < 0 ? 1 : longestActual;
         mismatchDescription.appendText("\n");
-        //noinspection unchecked
-        final Stream<String> stringStream = itemResults.stream()
-            .map(result -> line(result, itemResults.size(), longestActual, stringifiedActuals.get(result)));
-        final String line = stringStream
-            .collect(Collectors.joining("\n"));
-        mismatchDescription.appendText(line);
+        final int digits = Cells.indexWidth(collectionLength);
+        final Map<Matcher, String> sayings = new IdentityHashMap<>();
+        // One line at a time, so that the report never exists as a whole before reaching the Description.
+        final StringBuilder text = new StringBuilder();
+        for (int k = 0; k < lines.size(); k++) {
+            text.setLength(0);
+            if (k > 0) {
+                text.append('\n');
+            }
+            final int[] l = lines.get(k);
+            if (l[2] == collapsedLine) {
+                text.append(collapsedLine(itemResults, l[0], l[1]));
+            } else if (l[2] == truncatedLine) {
+                text.append(truncatedLine(itemResults, l[0], l[1], collectionLength, nrOfViolatingItems));
+            } else if (l[2] == gapLine) {
+                text.append(gapLine(itemResults, l[0], collectionLength));
+            } else {
+                final ItemResult result = itemResults.get(l[0]);
+                final String stringifiedActual = k < sample.length && sample[k] != null ? sample[k] : shortString(result.getActual());
+                //noinspection unchecked
+                appendLine(text, result, digits, width, stringifiedActual, sayings);
+            }
+            mismatchDescription.appendText(text.toString());
+        }
         mismatchDescription.appendText("\n\n");
     }
 
+    /* Only as much as fits into the item column. */
+    private String shortString(final Object actual) {
+        return stringifiers.getBoundedShortStringifier(actual)
+            .map(stringifier -> stringifier.apply(actual, actualItemMaxLength))
+            .orElseGet(() -> Objects.toString(actual));
+    }
+
+    /*
+     * Lines as {from, to, kind}: single items near violations, collapsed runs of other items and the truncated rest.
+     * If the item results don't cover the whole collection (as in streaming mode),
+     * a gap line {at, at, kind} stands for the items left out before the item result at that position.
+     */
+    private List<int[]> layout(final List<ItemResult> itemResults, final int collectionLength) {
+        final int size = itemResults.size();
+        final BitSet violations = new BitSet();
+        final BitSet matched = new BitSet();
+        final BitSet gaps = new BitSet();
+        final boolean windowed = contextRadius < size;
+        if (windowed) {
+            for (int p = 0; p < size; p++) {
+                final ItemResult itemResult = itemResults.get(p);
+                violations.set(p, isViolating(itemResult));
+                matched.set(p, itemResult.isMatched());
+            }
+        }
+        if (size < collectionLength) {
+            for (int p = 0; p <= size; p++) {
+                gaps.set(p, firstIndexAt(itemResults, p, collectionLength) > (p > 0 ? itemResults.get(p - 1).getIndex() + 1 : 0));
+            }
+        }
+        final List<int[]> lines = new ArrayList<>();
+        int p = 0;
+        while (p < size) {
+            if (lines.size() >= maxItemLines) {
+                lines.add(new int[]{p, size, truncatedLine});
+                return lines;
+            }
+            if (gaps.get(p) && (lines.isEmpty() || lines.get(lines.size() - 1)[2] != gapLine)) {
+                lines.add(new int[]{p, p, gapLine});
+                continue;
+            }
+            final int nextViolation = windowed ? violations.nextSetBit(Math.max(0, p - contextRadius)) : p;
+            if (nextViolation >= 0 && nextViolation - contextRadius <= p) {
+                lines.add(new int[]{p, p + 1, itemLine});
+                p++;
+            } else {
+                final int endOfRun = matched.get(p) ? matched.nextClearBit(p) : nextSetBit(matched, p, size);
+                final int end = Math.min(Math.min(endOfRun, nextSetBit(gaps, p + 1, size)), nextViolation < 0 ? size : nextViolation - contextRadius);
+                lines.add(new int[]{p, end, collapsedLine});
+                p = end;
+            }
+        }
+        if (gaps.get(size)) {
+            lines.add(new int[]{size, size, gapLine});
+        }
+        return lines;
+    }
+
+    /* Index of the item at the position, as if there was an item after the last one. */
+    private static int firstIndexAt(final List<ItemResult> itemResults, final int p, final int collectionLength) {
+        return p < itemResults.size() ? itemResults.get(p).getIndex() : collectionLength;
+    }
+
+    private static int nextSetBit(final BitSet bits, final int from, final int size) {
+        final int next = bits.nextSetBit(from);
+        return next < 0 ? size : next;
+    }
+
+    /* Unmatched items count as violating if there are expectations they don't match. Without listing those. */
+    private static boolean isViolating(final ItemResult result) {
+        return !result.isMatched() && result.hasMismatchedItemMatchers()
+            || result.isBreakingSortOrder()
+            || result.isBreakingItemOrder()
+            || result.isDuplicate()
+            || result.isUnwanted();
+    }
+
+    private String range(final List<ItemResult> itemResults, final int from, final int to) {
+        return range(itemResults.get(from).getIndex(), itemResults.get(to - 1).getIndex());
+    }
+
+    private String range(final int fromIndex, final int toIndex) {
+        return symbols.getLeftBracket() + fromIndex + ".." + toIndex + symbols.getRightBracket();
+    }
+
+    private String collapsedLine(final List<ItemResult> itemResults, final int from, final int to) {
+        final String matchSymbol = itemResults.get(from).isMatched() ? symbols.getIterableItemMatchesSymbol() + " " : "";
+        return range(itemResults, from, to) + " " + matchSymbol + (to - from) + " item(s)";
+    }
+
+    /*
+     * Up to the end of the collection, including the items left out of the item results.
+     * Items left out before the truncated rest don't violate, so the violating ones are all the others.
+     */
+    private String truncatedLine(final List<ItemResult> itemResults, final int from, final int to, final int collectionLength, final int nrOfViolatingItems) {
+        int violating = nrOfViolatingItems;
+        for (int p = 0; p < from; p++) {
+            if (isViolating(itemResults.get(p))) {
+                violating--;
+            }
+        }
+        final int fromIndex = itemResults.get(from).getIndex();
+        final int length = Math.max(collectionLength, itemResults.get(to - 1).getIndex() + 1);
+        return range(fromIndex, length - 1) + " " + (length - fromIndex) + " more item(s), " + violating + " of them violating";
+    }
+
+    /* The items left out before the item result at the position. */
+    private String gapLine(final List<ItemResult> itemResults, final int p, final int collectionLength) {
+        final int fromIndex = p > 0 ? itemResults.get(p - 1).getIndex() + 1 : 0;
+        final int toIndex = firstIndexAt(itemResults, p, collectionLength);
+        return range(fromIndex, toIndex - 1) + " " + (toIndex - fromIndex) + " item(s) left out";
+    }
+
     String line(final ItemResult<X> result, final int collectionLength, final int longestActual, final String stringifiedActual) {
+        final StringBuilder line = new StringBuilder();
+        appendLine(line, result, Cells.indexWidth(collectionLength), longestActual, stringifiedActual, new IdentityHashMap<>());
+        return line.toString();
+    }
+
+    /* Matchers describe themselves once per description, no matter how many items they don't match. */
+    private void appendLine(final StringBuilder line, final ItemResult<X> result, final int digits, final int longestActual, final String stringifiedActual, final Map<Matcher, String> sayings) {
         final String lBrack = symbols.getLeftBracket();
         final String rBrack = symbols.getRightBracket();
-        final StringBuilder line = new StringBuilder();
-        final int digits = Double.valueOf(Math.log10(collectionLength)).intValue() + 1;
-        final String ix = format("%1$" + digits + "." + digits + "s", result.getIndex());
-        line.append(lBrack).append(ix).append(rBrack);
-        line.append(lBrack).append(
-            actualItemString(stringifiedActual, Math.min(longestActual, actualItemMaxLength))
-        ).append(rBrack);
-        appendSymbol(line, result.isMatched(), symbols.getIterableItemMatchesSymbol());
-        appendSymbol(line, result.isBreakingSortOrder(), symbols.getIterableItemBadSortOrderSymbol());
-        appendSymbol(line, result.isBreakingItemOrder(), symbols.getIterableItemBadItemOrderSymbol());
-        appendSymbol(line, result.isDuplicate(), symbols.getIterableItemDuplicateSymbol());
-        appendSymbol(line, result.isUnwanted(), symbols.getIterableItemUnwantedSymbol());
+        line.append(lBrack);
+        Cells.appendIndex(line, result.getIndex(), digits);
+        line.append(rBrack);
+        line.append(lBrack);
+        final int limit = Math.min(longestActual, actualItemMaxLength);
+        if (limit > 0) {
+            Cells.appendLinified(line, Objects.toString(stringifiedActual), limit);
+        }
+        line.append(rBrack);
+        line.append(result.isMatched() ? cells.matches : cells.blank);
+        line.append(result.isBreakingSortOrder() ? cells.badSortOrder : cells.blank);
+        line.append(result.isBreakingItemOrder() ? cells.badItemOrder : cells.blank);
+        line.append(result.isDuplicate() ? cells.duplicate : cells.blank);
+        line.append(result.isUnwanted() ? cells.unwanted : cells.blank);
+        if (result.isMatched() && result.getPairedExpectation() >= 0) {
+            line.append(" ").append(cells.pairedWith).append(lBrack).append(result.getPairedExpectation()).append(rBrack);
+        }
         if (!result.isMatched()) {
-            result.getMismatchedItemMatchers().forEach(matcherWithIndex -> {
-                line.append(" ").append(symbols.getIterableItemNotMatchesSymbol()).append(lBrack).append(matcherWithIndex.getIndex()).append(rBrack).append(lBrack);
-                final StringDescription selfDescription = new StringDescription();
-                matcherWithIndex.getMatcher().describeTo(selfDescription);
-                line.append(matcherSaying(selfDescription.toString()));
+            //noinspection unchecked
+            final List<ItemResult.MatcherWithIndex> mismatchedItemMatchers = result.getMismatchedItemMatchers();
+            for (final ItemResult.MatcherWithIndex matcherWithIndex : mismatchedItemMatchers) {
+                line.append(" ").append(cells.notMatches).append(lBrack).append(matcherWithIndex.getIndex()).append(rBrack).append(lBrack);
+                line.append(sayings.computeIfAbsent(matcherWithIndex.getMatcher(), matcher -> {
+                    final StringDescription selfDescription = new StringDescription();
+                    matcher.describeTo(selfDescription);
+                    return matcherSaying(selfDescription.toString());
+                }));
                 line.append(rBrack);
-            });
+            }
         }
-        return line.toString();
     }
 
-    private void appendSymbol(final StringBuilder line, final boolean pred, final String symbol) {
-        line.append(format("%1$-2.2s", (pred ? symbol : " ")));
-
-
+    void describeDebugging(final List<ItemResult> itemResults, final Description mismatchDescription) {
+        describeDebugging(itemResults, itemResults.size(), new MismatchCaptures(), mismatchDescription);
     }
 
-    void describeDebugging(final List<ItemResult> itemResults, final Description mismatchDescription) {
+    /* Covers the items with a line of their own in the mismatch description. */
+    void describeDebugging(final List<ItemResult> itemResults, final int collectionLength, final MismatchCaptures captures, final Description mismatchDescription) {
         mismatchDescription.appendText("\n\nDEBUG:\n\n");
-        itemResults.forEach(itemResult -> {
+        for (final int[] line : layout(itemResults, collectionLength)) {
+            if (line[2] != itemLine) {
+                continue;
+            }
+            final ItemResult itemResult = itemResults.get(line[0]);
             mismatchDescription
                 .appendText("\n\n=== ACTUAL ITEM ")
                 .appendText(symbols.getLeftBracket())
@@ -163,30 +353,26 @@ class Prose<X> {
                     .appendText(symbols.getLeftBracket())
                     .appendText(itemResult.isMatched() ? symbols.getIterableItemMatchesSymbol() : symbols.getIterableItemNotMatchesSymbol())
                     .appendText(symbols.getRightBracket())
-                    .appendText(":\n\n\t\t")
-                    .appendText(stringifiedActual.replaceAll("\n", "\n\t\t"))
-                    .appendText("\n\n");
+                    .appendText(":\n\n\t\t");
+                final IndentingDescription indented = new IndentingDescription(mismatchDescription, "\t\t");
+                indented.appendText(stringifiedActual);
+                indented.flush();
+                mismatchDescription.appendText("\n\n");
 
                 mismatchDescription.appendText("\tMatcher expected:\n");
-                final StringDescription selfDesc = new StringDescription();
                 final Matcher matcher = mm.getMatcher();
-                matcher.matches(actual);
-                matcher.describeTo(selfDesc);
-                final String prettySelf = selfDesc.toString().replaceAll("\n", "\n\t\t");
-                mismatchDescription
-                    .appendText("\n\t\t")
-                    .appendText(prettySelf)
-                    .appendText("\n");
+                final String mismatch = captures.mismatchDescription(matcher, itemResult.getIndex(), actual);
+                mismatchDescription.appendText("\n\t\t");
+                indented.appendText(captures.selfDescription(matcher));
+                indented.flush();
+                mismatchDescription.appendText("\n");
                 mismatchDescription.appendText("\n\tMatcher described mismatch:\n");
-                final StringDescription mmDesc = new StringDescription();
-                matcher.describeMismatch(actual, mmDesc);
-                final String pretty = mmDesc.toString().replaceAll("\n", "\n\t\t");
-                mismatchDescription
-                    .appendText("\n\t\t")
-                    .appendText(pretty)
-                    .appendText("\n");
+                mismatchDescription.appendText("\n\t\t");
+                indented.appendText(mismatch);
+                indented.flush();
+                mismatchDescription.appendText("\n");
             });
             mismatchDescription.appendText("\n\n");
-        });
+        }
     }
 }
@@ -10,8 +10,8 @@ package org.objecttrouve.testing.matchers.fluentits;
 import org.hamcrest.Matcher;
 
 import java.util.Comparator;
-import java.util.Objects;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 @SuppressWarnings("PackageVisibleField")
 class Settings<X> {
@@ -21,9 +21,34 @@ class Settings<X> {
     boolean unique;
     boolean mustNotHaveUnexpectedItems;
     int expectedSize = -1;
+    long parallelThreshold = -1;
+    boolean streaming;
+    int streamingRadius;
+    boolean paired;
     @SuppressWarnings("unchecked")
     Matcher<X>[] expectations = new Matcher[0];
     Comparator<X> comparator;
-    BiPredicate<X, X> equator = Objects::equals;
+    Function<X, ?> uniqueKey = Function.identity();
+    BiPredicate<X, X> equator;
+    Comparator<X> uniqueComparator;
 
+    Settings<X> copy() {
+        final Settings<X> copy = new Settings<>();
+        copy.klass = klass;
+        copy.ordered = ordered;
+        copy.sorted = sorted;
+        copy.unique = unique;
+        copy.mustNotHaveUnexpectedItems = mustNotHaveUnexpectedItems;
+        copy.expectedSize = expectedSize;
+        copy.parallelThreshold = parallelThreshold;
+        copy.streaming = streaming;
+        copy.streamingRadius = streamingRadius;
+        copy.paired = paired;
+        copy.expectations = expectations.clone();
+        copy.comparator = comparator;
+        copy.uniqueKey = uniqueKey;
+        copy.equator = equator;
+        copy.uniqueComparator = uniqueComparator;
+        return copy;
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import java.util.BitSet;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * <p>Longest non-decreasing subsequence of the actual items, in O(n * log(n)) comparisons.</p>
+ * <p>The items outside of it are a minimal set of items to move to get the items sorted.</p>
+ */
+class SortedSubsequence {
+
+    private static final int none = -1;
+
+    private SortedSubsequence() {
+    }
+
+    /**
+     * @param nrOfItems  Number of actual items.
+     * @param comparison Compares the items at two indices.
+     * @return Indices of the items not in a longest non-decreasing subsequence.
+     * Among equally long subsequences, the one starting earliest is kept.
+     */
+    static BitSet unsortedItems(final int nrOfItems, final IntBinaryOperator comparison) {
+        // Built back to front. Per length, the first item of the subsequence starting with the greatest item.
+        final int[] heads = new int[nrOfItems];
+        final int[] next = new int[nrOfItems];
+        int length = 0;
+        for (int j = nrOfItems - 1; j >= 0; j--) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (comparison.applyAsInt(heads[middle], j) >= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            next[j] = low > 0 ? heads[low - 1] : none;
+            heads[low] = j;
+            if (low == length) {
+                length++;
+            }
+        }
+        final BitSet unsorted = new BitSet(nrOfItems);
+        unsorted.set(0, nrOfItems);
+        for (int j = length > 0 ? heads[length - 1] : none; j != none; j = next[j]) {
+            unsorted.clear(j);
+        }
+        return unsorted;
+    }
+}
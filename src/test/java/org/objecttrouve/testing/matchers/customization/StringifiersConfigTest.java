@@ -12,8 +12,12 @@ import org.objecttrouve.testing.matchers.api.Stringifiers;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertFalse;
@@ -100,6 +104,46 @@ public class StringifiersConfigTest {
     }
 
 
+    @Test
+    public void getBoundedShortStringifier__finds__by_class(){
+
+        final Stringifiers stringifiers = StringifiersConfig.stringifiers()
+            .withShortStringifier(String.class, s -> s + s)
+            .withBoundedShortStringifier(String.class, (s, maxLength) -> s.substring(0, Math.min(s.length(), maxLength)))
+            .build();
+
+        final Optional<BiFunction<String, Integer, String>> stringifier = stringifiers.getBoundedShortStringifier(new String());
+
+        assertThat(stringifier.get().apply("four", 2), is("fo"));
+        assertThat(stringifiers.getShortStringifier(new String()).get().apply("four"), is("four"));
+    }
+
+    @Test
+    public void getBoundedShortStringifier__falls_back_to_short_stringifier(){
+
+        final Stringifiers stringifiers = StringifiersConfig.stringifiers()
+            .withShortStringifier(String.class, s -> s + s)
+            .build();
+
+        final Optional<BiFunction<String, Integer, String>> stringifier = stringifiers.getBoundedShortStringifier(new String());
+
+        assertThat(stringifier.get().apply("four", 2), is("fourfour"));
+    }
+
+    @Test
+    public void getBoundedShortStringifier__short_stringifier_for_exact_class_beats_bounded_for_supertype(){
+
+        final Stringifiers stringifiers = StringifiersConfig.stringifiers()
+            .withBoundedShortStringifier(CharSequence.class, (s, maxLength) -> "bounded")
+            .withShortStringifier(String.class, s -> s + s)
+            .build();
+
+        assertThat(stringifiers.getShortStringifier("four").get().apply("four"), is("fourfour"));
+        assertThat(stringifiers.getBoundedShortStringifier("four").get().apply("four", 2), is("fourfour"));
+        assertThat(stringifiers.getShortStringifier(new StringBuilder()).get().apply(new StringBuilder()), is("bounded"));
+    }
+
+
     private interface LifeForm {}
     private interface Organic {}
     private interface Yummi {}
@@ -398,4 +442,23 @@ public class StringifiersConfigTest {
         final String result = stringifier.get().apply(new Salmon());
         assertThat(result, is("LIFEFORM"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getShortStringifier__shared_between_threads(){
+
+        final Stringifiers stringifiers = StringifiersConfig.stringifiers()
+            .withShortStringifier(Fish.class, x -> "fish")
+            .withShortStringifier(LifeForm.class, x -> "lifeform")
+            .build();
+        final List<Object> objects = asList(new Salmon(), new Whale(), new Fish(), new Object(), "str", null);
+
+        final List<String> results = IntStream.range(0, 10_000).parallel()
+            .mapToObj(i -> objects.get(i % objects.size()))
+            .map(o -> stringifiers.getShortStringifier(o).map(f -> f.apply(o)).orElse("-"))
+            .collect(toList());
+
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i), is(asList("fish", "lifeform", "fish", "-", "-", "-").get(i % objects.size())));
+        }
+    }
+}
@@ -10,9 +10,13 @@ package org.objecttrouve.testing.matchers.fluentatts;
 import org.hamcrest.*;
 import org.junit.Test;
 import org.objecttrouve.testing.matchers.ConvenientMatchers;
+import org.objecttrouve.testing.matchers.api.ScorableMatcher;
 import org.objecttrouve.testing.matchers.customization.MatcherFactory;
 import org.objecttrouve.testing.matchers.customization.SymbolsConfig;
 
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.*;
@@ -44,6 +48,23 @@ public class FluentAttributeMatcherTest {
         }
     }
 
+    private static class MutableThing {
+
+        private String value;
+
+        MutableThing(final String value) {
+            this.value = value;
+        }
+
+        String getValue() {
+            return value;
+        }
+
+        void setValue(final String value) {
+            this.value = value;
+        }
+    }
+
     @Test
     public void testFactoryANotNull() {
 
@@ -106,6 +127,84 @@ public class FluentAttributeMatcherTest {
         assertThat(description.toString(), is("\n\tvalue = 'the value' ≠ 'not the value'\n"));
     }
 
+    @Test
+    public void describeMismatchSafely__reuses_evaluation() {
+        final int[] calls = {0};
+        final Attribute<Thing, String> value = attribute("value", thing -> {
+            calls[0]++;
+            return thing.getValue();
+        });
+        final FluentAttributeMatcher<Thing> matcher = a(Thing.class).with(value, "expected");
+        final Thing thing = new Thing("actual");
+
+        assertFalse(matcher.matches(thing));
+        final Description description = new StringDescription();
+        matcher.describeMismatch(thing, description);
+
+        assertThat(calls[0], is(1));
+        assertThat(description.toString(), containsString("actual"));
+    }
+
+    @Test
+    public void describeMismatchSafely__reevaluates__other_item() {
+        final int[] calls = {0};
+        final Attribute<Thing, String> value = attribute("value", thing -> {
+            calls[0]++;
+            return thing.getValue();
+        });
+        final FluentAttributeMatcher<Thing> matcher = a(Thing.class).with(value, "expected");
+
+        assertFalse(matcher.matches(new Thing("actual")));
+        final Description description = new StringDescription();
+        matcher.describeMismatch(new Thing("other"), description);
+
+        assertThat(calls[0], is(2));
+        assertThat(description.toString(), containsString("other"));
+    }
+
+    @Test
+    public void describeMismatchSafely__item_mutated_after_failed_match__describes_the_state_the_verdict_was_based_on() {
+        final Attribute<MutableThing, String> value = attribute("value", MutableThing::getValue);
+        final FluentAttributeMatcher<MutableThing> matcher = a(MutableThing.class).with(value, "expected");
+        final MutableThing thing = new MutableThing("actual");
+
+        assertFalse(matcher.matches(thing));
+        thing.setValue("mutated");
+        final Description description = new StringDescription();
+        matcher.describeMismatch(thing, description);
+
+        assertThat(description.toString(), is("\n\tvalue = 'expected' ≠ 'actual'\n"));
+    }
+
+    @Test
+    public void describeMismatchSafely__item_mutated_after_description__reevaluates() {
+        final Attribute<MutableThing, String> value = attribute("value", MutableThing::getValue);
+        final FluentAttributeMatcher<MutableThing> matcher = a(MutableThing.class).with(value, "expected");
+        final MutableThing thing = new MutableThing("actual");
+        assertFalse(matcher.matches(thing));
+        matcher.describeMismatch(thing, new StringDescription());
+
+        thing.setValue("mutated");
+        final Description description = new StringDescription();
+        matcher.describeMismatch(thing, description);
+
+        assertThat(description.toString(), is("\n\tvalue = 'expected' ≠ 'mutated'\n"));
+    }
+
+    @Test
+    public void describeMismatchSafely__item_mutated_after_successful_match__reevaluates() {
+        final Attribute<MutableThing, String> value = attribute("value", MutableThing::getValue);
+        final FluentAttributeMatcher<MutableThing> matcher = a(MutableThing.class).with(value, "expected");
+        final MutableThing thing = new MutableThing("expected");
+
+        assertTrue(matcher.matches(thing));
+        thing.setValue("mutated");
+        final Description description = new StringDescription();
+        matcher.describeMismatch(thing, description);
+
+        assertThat(description.toString(), is("\n\tvalue = 'expected' ≠ 'mutated'\n"));
+    }
+
     @Test
     public void describeTo__withValue() {
 
@@ -802,6 +901,153 @@ public class FluentAttributeMatcherTest {
     }
 
 
+    @Test
+    public void compile__nested_FluentAttributeMatcher__same_descriptions() {
+        final Attribute<Question, Answer> answer = attribute("answer", Question::getAnswer);
+        final Attribute<Answer, Integer> embeddedAnswer = attribute("embedded answer", Answer::getTheAnswer);
+        final Attribute<Answer, Integer> halfAnswer = attribute("half answer", Answer::getHalfTheAnswer);
+        final FluentAttributeMatcher<Question> matching = a(Question.class)//
+            .withMatching(answer, an(Answer.class)
+                .withValue(embeddedAnswer, 41)
+                .withMatching(halfAnswer, lessThan(1))
+            );
+        final Matcher<Question> compiled = matching.compile();
+        final Question item = new Question(new Answer(42));
+        final StringDescription expected = new StringDescription();
+        final StringDescription actual = new StringDescription();
+        final StringDescription expectedMismatch = new StringDescription();
+        final StringDescription actualMismatch = new StringDescription();
+
+        assertFalse(matching.matches(item));
+        assertFalse(compiled.matches(item));
+        matching.describeTo(expected);
+        compiled.describeTo(actual);
+        matching.describeMismatch(item, expectedMismatch);
+        compiled.describeMismatch(item, actualMismatch);
+
+        assertThat(actual.toString(), is(expected.toString()));
+        assertThat(actualMismatch.toString(), is(expectedMismatch.toString()));
+        assertThat(((ScorableMatcher) compiled).getScore(), is(matching.getScore()));
+    }
+
+    @Test
+    public void score__leaves_last_evaluation_as_it_is() {
+        final Attribute<Thing, String> value = attribute("value", Thing::getValue);
+        final Attribute<Thing, Integer> length = attribute("length", thing -> thing.getValue().length());
+        final FluentAttributeMatcher<Thing> matching = a(Thing.class).withValue(value, "x").withValue(length, 1);
+
+        assertFalse(matching.matches(new Thing("yy")));
+
+        assertThat(matching.score(new Thing("y")), is(0.5));
+        assertThat(matching.score(new Thing("x")), is(1.0));
+        assertThat(matching.score(null), is(0.0));
+        assertThat(matching.getScore(), is(0.0));
+        assertThat(((ScorableMatcher) matching.compile()).score(new Thing("y")), is(0.5));
+    }
+
+    @Test
+    public void score__nested_FluentAttributeMatcher__shared_between_threads() throws InterruptedException {
+        final Attribute<Thing, String> value = attribute("value", Thing::getValue);
+        final Attribute<String, Integer> length = attribute("length", String::length);
+        final Attribute<String, Character> initial = attribute("initial", s -> s.charAt(0));
+        final FluentAttributeMatcher<Thing> matching = a(Thing.class)
+            .withValue(value, "xy")
+            .withMatching(value, a(String.class).with(length, 2).with(initial, 'x'));
+        final AtomicInteger failures = new AtomicInteger();
+        final Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            final boolean nestedMatching = t % 2 == 0;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    try {
+                        final double score = matching.score(new Thing(nestedMatching ? "xz" : "yyy"));
+                        if (score != (nestedMatching ? 0.5 : 0.0)) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (final RuntimeException e) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(failures.get(), is(0));
+        assertThat(matching.score(new Thing("xy")), is(1.0));
+        assertThat(matching.score(new Thing("yz")), is(0.0));
+    }
+
+    @Test
+    public void compile__not_affected_by_later_changes() {
+        final Attribute<Thing, String> value = attribute("value", Thing::getValue);
+        final FluentAttributeMatcher<Thing> matching = a(Thing.class).withValue(value, "x");
+        final Matcher<Thing> compiled = matching.compile();
+
+        matching.withValue(value, "y");
+
+        assertTrue(compiled.matches(new Thing("x")));
+    }
+
+    @Test
+    public void compile__actual_not_kept_after_describeMismatch() throws InterruptedException {
+        final Attribute<Thing, String> value = attribute("value", Thing::getValue);
+        final Attribute<String, Integer> length = attribute("length", String::length);
+        final Matcher<String> nested = a(String.class).with(length, 1).compile();
+        final Matcher<Thing> compiled = a(Thing.class).withMatching(value, nested).compile();
+        Thing actual = new Thing(new String(new char[]{'y', 'y'}));
+        assertFalse(compiled.matches(actual));
+        final StringDescription description = new StringDescription();
+        compiled.describeMismatch(actual, description);
+        final WeakReference<Thing> reference = new WeakReference<>(actual);
+        final WeakReference<String> nestedReference = new WeakReference<>(actual.getValue());
+
+        //noinspection UnusedAssignment
+        actual = null;
+
+        assertThat(description.toString(), containsString("length"));
+        assertTrue(collected(reference));
+        assertTrue(collected(nestedReference));
+        assertThat(((ScorableMatcher) compiled).getScore(), is(0.0));
+    }
+
+    private static boolean collected(final WeakReference<?> reference) throws InterruptedException {
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        return reference.get() == null;
+    }
+
+    @Test
+    public void compile__shared_between_threads() throws InterruptedException {
+        final Attribute<Thing, String> value = attribute("value", Thing::getValue);
+        final Matcher<Thing> compiled = a(Thing.class).withValue(value, "x").compile();
+        final AtomicInteger failures = new AtomicInteger();
+        final Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            final boolean matching = t % 2 == 0;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    final boolean matched = compiled.matches(new Thing(matching ? "x" : "y"));
+                    final double score = ((ScorableMatcher) compiled).getScore();
+                    if (matched != matching || score != (matching ? 1.0 : 0.0)) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(failures.get(), is(0));
+    }
+
+
     @Test
     public void test__FluentAttributeMatcher__should_not_be_moved_or_renamed() {
         // Rename with caution!
@@ -0,0 +1,97 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.junit.Test;
+import org.objecttrouve.testing.matchers.customization.SymbolsConfig;
+
+import java.util.Random;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CellsTest {
+
+    private static final String[] texts = {
+        "", " ", "\n", "a", "  a  ", "a\nb", "a \n b", "a\t\t\nb", " \n a \r\n b \n ", "\u0001a\u0001", "a\u000Bb\fc", "💕x💕", "scène de ménage"
+    };
+
+    private static String linified(final String str) {
+        return str.trim().replaceAll("\n", "; ").replaceAll("\\s+", " ");
+    }
+
+    @Test
+    public void appendLinified__same_as_regex() {
+
+        for (final String text : texts) {
+            final StringBuilder line = new StringBuilder();
+
+            Cells.appendLinified(line, text);
+
+            assertThat(line.toString(), is(linified(text)));
+        }
+    }
+
+    @Test
+    public void appendLinified__width__same_as_format() {
+
+        for (final String text : texts) {
+            for (int width = 1; width < 12; width++) {
+                final StringBuilder line = new StringBuilder();
+
+                Cells.appendLinified(line, text, width);
+
+                assertThat(line.toString(), is(format("%1$-" + width + "." + width + "s", linified(text))));
+            }
+        }
+    }
+
+    @Test
+    public void appendLinified__random__same_as_regex() {
+
+        final Random random = new Random(42);
+        final char[] alphabet = {'a', ' ', '\n', '\t', '\r', ';', '\u0000'};
+        for (int n = 0; n < 1000; n++) {
+            final char[] chars = new char[random.nextInt(20)];
+            for (int k = 0; k < chars.length; k++) {
+                chars[k] = alphabet[random.nextInt(alphabet.length)];
+            }
+            final String text = new String(chars);
+            final StringBuilder line = new StringBuilder();
+
+            Cells.appendLinified(line, text, 8);
+
+            assertThat(line.toString(), is(format("%1$-8.8s", linified(text))));
+        }
+    }
+
+    @Test
+    public void appendIndex__same_as_format() {
+
+        for (final int index : new int[]{0, 7, 42, 999, 123456}) {
+            for (int width = 1; width < 8; width++) {
+                final StringBuilder line = new StringBuilder();
+
+                Cells.appendIndex(line, index, width);
+
+                assertThat(line.toString(), is(format("%1$" + width + "." + width + "s", index)));
+            }
+        }
+    }
+
+    @Test
+    public void symbol_cells__same_as_format() {
+
+        final Cells cells = new Cells(SymbolsConfig.defaultSymbols());
+
+        assertThat(cells.matches, is(format("%1$-2.2s", SymbolsConfig.defaultSymbols().getIterableItemMatchesSymbol())));
+        assertThat(cells.badSortOrder, is(format("%1$-2.2s", SymbolsConfig.defaultSymbols().getIterableItemBadSortOrderSymbol())));
+        assertThat(cells.blank, is("  "));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.Matcher;
+import org.junit.Test;
+import org.objecttrouve.testing.matchers.customization.StringifiersConfig;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@SuppressWarnings("rawtypes")
+public class EqualityIndexTest {
+
+    private static EqTo<Object> eqTo(final Object value) {
+        return new EqTo<>(value, StringifiersConfig.stringifiers().build(), false);
+    }
+
+    @Test
+    public void expectationsEqualTo__multiple_expectations_with_same_value() {
+
+        final EqualityIndex index = new EqualityIndex(new Matcher[]{eqTo("a"), eqTo("b"), eqTo("a")});
+
+        assertThat(index.expectationsEqualTo("a"), is(new int[]{0, 2}));
+        assertThat(index.expectationsEqualTo("b"), is(new int[]{1}));
+        assertThat(index.expectationsEqualTo("c"), is(new int[0]));
+        assertThat(index.unindexed(), is(new int[0]));
+    }
+
+    @Test
+    public void expectationsEqualTo__null_value() {
+
+        final EqualityIndex index = new EqualityIndex(new Matcher[]{eqTo("a"), eqTo(null)});
+
+        assertThat(index.expectationsEqualTo(null), is(new int[]{1}));
+    }
+
+    @Test
+    public void unindexed__other_matchers_and_arrays() {
+
+        final EqualityIndex index = new EqualityIndex(new Matcher[]{startsWith("a"), eqTo("a"), eqTo(new int[]{1})});
+
+        assertThat(index.unindexed(), is(new int[]{0, 2}));
+        assertThat(index.expectationsEqualTo(new int[]{1}), is(new int[0]));
+        assertThat(index.expectationsEqualTo("a"), is(new int[]{1}));
+    }
+}
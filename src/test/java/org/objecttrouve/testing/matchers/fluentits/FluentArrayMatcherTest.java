@@ -0,0 +1,92 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.objecttrouve.testing.matchers.ConvenientMatchers.anArrayOf;
+import static org.objecttrouve.testing.matchers.ConvenientMatchers.anIterableOf;
+
+public class FluentArrayMatcherTest {
+
+    @Test
+    public void matchesSafely__match() {
+
+        final FluentArrayMatcher<String> matcher = anArrayOf(String.class)
+            .ofSize(3)
+            .sorted()
+            .unique()
+            .withItems("a", "c")
+            .withItemsMatching(startsWith("b"));
+
+        assertTrue(matcher.matches(new String[]{"a", "b", "c"}));
+    }
+
+    @Test
+    public void matches__mismatch__other_component_type() {
+
+        assertFalse(anArrayOf(String.class).matches(new Integer[]{1}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void anArrayOf__error__primitive_class() {
+
+        anArrayOf(int.class);
+    }
+
+    @Test
+    public void describeMismatchSafely__same_as_for_Iterable() {
+
+        final String[] strings = {"x", "zzz", "yy", "yy", "åå"};
+        final FluentArrayMatcher<String> matcher = anArrayOf(String.class)
+            .exactly()
+            .sorted()
+            .ordered()
+            .unique()
+            .withItems("x", "yy", "zzz");
+        final FluentIterableMatcher<String, Iterable<String>> iterableMatcher = anIterableOf(String.class)
+            .exactly()
+            .sorted()
+            .ordered()
+            .unique()
+            .withItems("x", "yy", "zzz");
+        final StringDescription description = new StringDescription();
+        final StringDescription iterableDescription = new StringDescription();
+
+        assertFalse(matcher.matches(strings));
+        matcher.describeMismatch(strings, description);
+        iterableMatcher.describeMismatch(asList(strings), iterableDescription);
+
+        assertThat(description.toString(), is(iterableDescription.toString()));
+    }
+
+    @Test
+    public void getItemResults__items_of_the_array() {
+
+        final String[] strings = {"a", "b"};
+        final FluentArrayMatcher<String> matcher = anArrayOf(String.class).withItems("c");
+
+        assertFalse(matcher.matches(strings));
+
+        assertSame(strings[1], matcher.getItemResults().get(1).getActual());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void anArrayOf__error__null_class() {
+
+        anArrayOf(null);
+    }
+}
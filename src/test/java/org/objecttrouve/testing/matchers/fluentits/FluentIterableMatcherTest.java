@@ -7,10 +7,26 @@
 
 package org.objecttrouve.testing.matchers.fluentits;
 
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import static org.hamcrest.MatcherAssert.assertThat;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
 import org.hamcrest.StringDescription;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -20,6 +36,7 @@ import static org.junit.Assert.fail;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.objecttrouve.testing.matchers.ConvenientMatchers;
+import org.objecttrouve.testing.matchers.api.ScorableMatcher;
 import static org.objecttrouve.testing.matchers.ConvenientMatchers.anIterableLike;
 import org.objecttrouve.testing.matchers.customization.MatcherFactory;
 import org.objecttrouve.testing.matchers.fluentatts.Attribute;
@@ -27,11 +44,14 @@ import org.objecttrouve.testing.matchers.fluentatts.FluentAttributeMatcher;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.number.IsCloseTo.closeTo;
 import static org.objecttrouve.testing.matchers.ConvenientMatchers.a;
@@ -306,6 +326,88 @@ public class FluentIterableMatcherTest {
     }
 
 
+    @Test
+    public void matchesSafely__mismatch__exactly__with_duplicated_matchers__has_ItemResults() {
+
+        final List<Double> doubles = asList(1.0, 2.0, 2.0);
+
+        final List<ItemResult> itemResults = matchResults(doubles,
+            anIterableOf(Double.class)
+                .exactly()
+                .withItems(2.0, 1.0, 1.0)
+        );
+
+        assertThat(itemResults, hasSize(3));
+        assertThat(itemResults.get(0).isMatched(), is(true));
+        assertThat(itemResults.get(1).isMatched(), is(true));
+        assertThat(itemResults.get(2).isMatched(), is(true));
+        /* Only one of the two 2.0 items can be paired with the single 2.0 expectation. */
+        final long unpaired = itemResults.stream().filter(ItemResult::isUnwanted).count();
+        assertThat(unpaired, is(1L));
+        assertThat(itemResults.get(0).isUnwanted(), is(false));
+    }
+
+    @Test
+    public void describeMismatchSafely__exactly__pairing_described() {
+
+        final List<String> strings = asList("ab", "ac", "x");
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class)
+            .exactly()
+            .withItemsMatching(startsWith("a"), equalTo("ab"));
+
+        assertFalse(matcher.matchesSafely(strings));
+        final List<ItemResult> itemResults = matcher.getItemResults();
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatchSafely(strings, description);
+
+        /* "ab" matches both, but only "ab" can take the 2nd expectation. */
+        assertThat(itemResults.get(0).getPairedExpectation(), is(1));
+        assertThat(itemResults.get(1).getPairedExpectation(), is(0));
+        assertThat(description.toString(), containsString("⦗0⦘⦗ab⦘💕         💕⦗1⦘\n⦗1⦘⦗ac⦘💕         💕⦗0⦘"));
+    }
+
+    @Test
+    public void getItemResults__no_pairing_without_exactly() {
+
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class)
+            .ofSize(3)
+            .withItemsMatching(startsWith("a"), equalTo("ab"));
+
+        assertFalse(matcher.matchesSafely(asList("ab", "ac")));
+
+        assertThat(matcher.getItemResults().get(0).getPairedExpectation(), is(-1));
+    }
+
+    @Test
+    public void matchesSafely__match__withItems__arrays_by_content() {
+
+        final List<int[]> arrays = asList(new int[]{1, 2}, new int[]{3});
+
+        final boolean matches = anIterableOf(int[].class)
+            .exactly()
+            .withItems(new int[]{3}, new int[]{1, 2})
+            .matchesSafely(arrays);
+
+        assertTrue(matches);
+    }
+
+    @Test
+    public void matchesSafely__match__withItems__large_collections() {
+
+        final List<Integer> actual = new ArrayList<>();
+        for (int i = 0; i < 4_000; i++) {
+            actual.add(i % 1_000);
+        }
+        final Integer[] expected = new Integer[1_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = expected.length - 1 - i;
+        }
+
+        final FluentIterableMatcher<Integer, Iterable<Integer>> matcher = anIterableOf(Integer.class).withItems(expected);
+
+        assertTrue(matcher.matchesSafely(actual));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void matchesSafely__error__3_matcher_expectations__ofSize_2__1_actual__inconsistent_with__exactly() {
 
@@ -709,6 +811,28 @@ public class FluentIterableMatcherTest {
         anIterableOf(Object.class).sorted();
     }
 
+    private static class NotComparable1 {
+    }
+
+    private static class NotComparable2 {
+    }
+
+    @Test
+    public void describeMismatch__sorted__one_finding_per_class_not_comparable() {
+
+        @SuppressWarnings("unchecked")
+        final List<Comparable> items = (List) asList(new NotComparable1(), new NotComparable2(), new NotComparable1(), new NotComparable2(), "a");
+        final FluentIterableMatcher<Comparable, Iterable<Comparable>> matcher = anIterableOf(Comparable.class).sorted();
+
+        assertFalse(matcher.matches(items));
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatch(items, description);
+
+        final String mismatch = description.toString();
+        assertThat(mismatch.split("NotComparable1' not comparable", -1).length - 1, is(1));
+        assertThat(mismatch.split("NotComparable2' not comparable", -1).length - 1, is(1));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void withItemsMatching__error__null_arg() {
 
@@ -1261,7 +1385,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult3.getActual(), is("Donald"));
         assertThat(itemResult3.getIndex(), is(2));
         assertThat(itemResult3.isMatched(), is(true));
-        assertThat(itemResult3.isBreakingItemOrder(), is(true));
+        assertThat(itemResult3.isBreakingItemOrder(), is(false));
         assertThat(itemResult3.isBreakingSortOrder(), is(false));
         assertThat(itemResult3.isDuplicate(), is(false));
         assertThat(itemResult3.isUnwanted(), is(false));
@@ -1270,7 +1394,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult4.getActual(), is("Trump"));
         assertThat(itemResult4.getIndex(), is(3));
         assertThat(itemResult4.isMatched(), is(true));
-        assertThat(itemResult4.isBreakingItemOrder(), is(true));
+        assertThat(itemResult4.isBreakingItemOrder(), is(false));
         assertThat(itemResult4.isBreakingSortOrder(), is(false));
         assertThat(itemResult4.isDuplicate(), is(false));
         assertThat(itemResult4.isUnwanted(), is(false));
@@ -1279,7 +1403,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult5.getActual(), is("impeachment"));
         assertThat(itemResult5.getIndex(), is(4));
         assertThat(itemResult5.isMatched(), is(true));
-        assertThat(itemResult5.isBreakingItemOrder(), is(false));
+        assertThat(itemResult5.isBreakingItemOrder(), is(true));
         assertThat(itemResult5.isBreakingSortOrder(), is(false));
         assertThat(itemResult5.isDuplicate(), is(false));
         assertThat(itemResult5.isUnwanted(), is(false));
@@ -1527,7 +1651,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult3.getActual(), is("fake"));
         assertThat(itemResult3.getIndex(), is(2));
         assertThat(itemResult3.isMatched(), is(true));
-        assertThat(itemResult3.isBreakingItemOrder(), is(true));
+        assertThat(itemResult3.isBreakingItemOrder(), is(false));
         assertThat(itemResult3.isBreakingSortOrder(), is(false));
         assertThat(itemResult3.isDuplicate(), is(false));
         assertThat(itemResult3.isUnwanted(), is(false));
@@ -1536,7 +1660,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult4.getActual(), is("news"));
         assertThat(itemResult4.getIndex(), is(3));
         assertThat(itemResult4.isMatched(), is(true));
-        assertThat(itemResult4.isBreakingItemOrder(), is(true));
+        assertThat(itemResult4.isBreakingItemOrder(), is(false));
         assertThat(itemResult4.isBreakingSortOrder(), is(false));
         assertThat(itemResult4.isDuplicate(), is(false));
         assertThat(itemResult4.isUnwanted(), is(false));
@@ -1545,7 +1669,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult5.getActual(), is("Trump"));
         assertThat(itemResult5.getIndex(), is(4));
         assertThat(itemResult5.isMatched(), is(true));
-        assertThat(itemResult5.isBreakingItemOrder(), is(false));
+        assertThat(itemResult5.isBreakingItemOrder(), is(true));
         assertThat(itemResult5.isBreakingSortOrder(), is(false));
         assertThat(itemResult5.isDuplicate(), is(false));
         assertThat(itemResult5.isUnwanted(), is(false));
@@ -1652,7 +1776,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult2.getActual(), is("fake"));
         assertThat(itemResult2.getIndex(), is(1));
         assertThat(itemResult2.isMatched(), is(true));
-        assertThat(itemResult2.isBreakingItemOrder(), is(true));
+        assertThat(itemResult2.isBreakingItemOrder(), is(false));
         assertThat(itemResult2.isBreakingSortOrder(), is(false));
         assertThat(itemResult2.isDuplicate(), is(false));
         assertThat(itemResult2.isUnwanted(), is(false));
@@ -1661,7 +1785,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult3.getActual(), is("news"));
         assertThat(itemResult3.getIndex(), is(2));
         assertThat(itemResult3.isMatched(), is(true));
-        assertThat(itemResult3.isBreakingItemOrder(), is(true));
+        assertThat(itemResult3.isBreakingItemOrder(), is(false));
         assertThat(itemResult3.isBreakingSortOrder(), is(false));
         assertThat(itemResult3.isDuplicate(), is(false));
         assertThat(itemResult3.isUnwanted(), is(false));
@@ -1679,7 +1803,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult5.getActual(), is("impeachment"));
         assertThat(itemResult5.getIndex(), is(4));
         assertThat(itemResult5.isMatched(), is(true));
-        assertThat(itemResult5.isBreakingItemOrder(), is(true));
+        assertThat(itemResult5.isBreakingItemOrder(), is(false));
         assertThat(itemResult5.isBreakingSortOrder(), is(false));
         assertThat(itemResult5.isDuplicate(), is(false));
         assertThat(itemResult5.isUnwanted(), is(false));
@@ -1790,7 +1914,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult3.getActual(), is("alternative"));
         assertThat(itemResult3.getIndex(), is(2));
         assertThat(itemResult3.isMatched(), is(false));
-        assertThat(itemResult3.isBreakingItemOrder(), is(true));
+        assertThat(itemResult3.isBreakingItemOrder(), is(false));
         assertThat(itemResult3.isBreakingSortOrder(), is(false));
         assertThat(itemResult3.isDuplicate(), is(false));
         assertThat(itemResult3.isUnwanted(), is(false));
@@ -1799,7 +1923,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult4.getActual(), is("facts"));
         assertThat(itemResult4.getIndex(), is(3));
         assertThat(itemResult4.isMatched(), is(false));
-        assertThat(itemResult4.isBreakingItemOrder(), is(true));
+        assertThat(itemResult4.isBreakingItemOrder(), is(false));
         assertThat(itemResult4.isBreakingSortOrder(), is(false));
         assertThat(itemResult4.isDuplicate(), is(false));
         assertThat(itemResult4.isUnwanted(), is(false));
@@ -1808,7 +1932,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult5.getActual(), is("impeachment"));
         assertThat(itemResult5.getIndex(), is(4));
         assertThat(itemResult5.isMatched(), is(true));
-        assertThat(itemResult5.isBreakingItemOrder(), is(true));
+        assertThat(itemResult5.isBreakingItemOrder(), is(false));
         assertThat(itemResult5.isBreakingSortOrder(), is(false));
         assertThat(itemResult5.isDuplicate(), is(false));
         assertThat(itemResult5.isUnwanted(), is(false));
@@ -1817,7 +1941,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult6.getActual(), is("Donald"));
         assertThat(itemResult6.getIndex(), is(5));
         assertThat(itemResult6.isMatched(), is(true));
-        assertThat(itemResult6.isBreakingItemOrder(), is(true));
+        assertThat(itemResult6.isBreakingItemOrder(), is(false));
         assertThat(itemResult6.isBreakingSortOrder(), is(false));
         assertThat(itemResult6.isDuplicate(), is(false));
         assertThat(itemResult6.isUnwanted(), is(false));
@@ -1826,7 +1950,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult7.getActual(), is("Trump"));
         assertThat(itemResult7.getIndex(), is(6));
         assertThat(itemResult7.isMatched(), is(true));
-        assertThat(itemResult7.isBreakingItemOrder(), is(true));
+        assertThat(itemResult7.isBreakingItemOrder(), is(false));
         assertThat(itemResult7.isBreakingSortOrder(), is(false));
         assertThat(itemResult7.isDuplicate(), is(false));
         assertThat(itemResult7.isUnwanted(), is(false));
@@ -1939,7 +2063,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult1.getIndex(), is(0));
         assertThat(itemResult1.isMatched(), is(false));
         assertThat(itemResult1.isBreakingItemOrder(), is(false));
-        assertThat(itemResult1.isBreakingSortOrder(), is(false));
+        assertThat(itemResult1.isBreakingSortOrder(), is(true));
         assertThat(itemResult1.isDuplicate(), is(false));
         assertThat(itemResult1.isUnwanted(), is(false));
         assertThat(itemResult1.getMismatchedItemMatchers().size(), is(0));
@@ -1948,7 +2072,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult2.getIndex(), is(1));
         assertThat(itemResult2.isMatched(), is(false));
         assertThat(itemResult2.isBreakingItemOrder(), is(false));
-        assertThat(itemResult2.isBreakingSortOrder(), is(true));
+        assertThat(itemResult2.isBreakingSortOrder(), is(false));
         assertThat(itemResult2.isDuplicate(), is(false));
         assertThat(itemResult2.isUnwanted(), is(false));
         assertThat(itemResult2.getMismatchedItemMatchers().size(), is(0));
@@ -2006,11 +2130,11 @@ public class FluentIterableMatcherTest {
         final ItemResult itemResult1 = itemResults.get(0);
         assertThat(itemResult1.getActual(), is("B"));
         assertThat(itemResult1.getIndex(), is(0));
-        assertThat(itemResult1.isBreakingSortOrder(), is(false));
+        assertThat(itemResult1.isBreakingSortOrder(), is(true));
         final ItemResult itemResult2 = itemResults.get(1);
         assertThat(itemResult2.getActual(), is("A"));
         assertThat(itemResult2.getIndex(), is(1));
-        assertThat(itemResult2.isBreakingSortOrder(), is(true));
+        assertThat(itemResult2.isBreakingSortOrder(), is(false));
         final ItemResult itemResult3 = itemResults.get(2);
         assertThat(itemResult3.getActual(), is("A"));
         assertThat(itemResult3.getIndex(), is(2));
@@ -2119,11 +2243,11 @@ public class FluentIterableMatcherTest {
         final ItemResult itemResult1 = itemResults.get(0);
         assertThat(itemResult1.getActual(), is("BBB"));
         assertThat(itemResult1.getIndex(), is(0));
-        assertThat(itemResult1.isBreakingSortOrder(), is(false));
+        assertThat(itemResult1.isBreakingSortOrder(), is(true));
         final ItemResult itemResult2 = itemResults.get(1);
         assertThat(itemResult2.getActual(), is("AA"));
         assertThat(itemResult2.getIndex(), is(1));
-        assertThat(itemResult2.isBreakingSortOrder(), is(true));
+        assertThat(itemResult2.isBreakingSortOrder(), is(false));
         final ItemResult itemResult3 = itemResults.get(2);
         assertThat(itemResult3.getActual(), is("AA"));
         assertThat(itemResult3.getIndex(), is(2));
@@ -2316,6 +2440,624 @@ public class FluentIterableMatcherTest {
     }
 
 
+    @Test
+    public void matchesSafely__mismatch__unique__after_unique_with_equator_function__keeps_equator() {
+
+        final List<String> strings = asList("x", "y");
+
+        assertFalse(anIterableOf(String.class).unique((s1, s2) -> s1.length() == s2.length()).unique().matchesSafely(strings));
+    }
+
+    @Test
+    public void matchesSafely__mismatch__unique__after_uniqueBy__keeps_key() {
+
+        final List<String> strings = asList("x", "y");
+
+        assertFalse(anIterableOf(String.class).uniqueBy(String::length).unique().matchesSafely(strings));
+    }
+
+    @Test
+    public void matchesSafely__match__uniqueBy__Collection_without_duplicates() {
+
+        final List<String> strings = asList("x", "yy", "zzz");
+
+        assertThat(strings, is(anIterableOf(String.class).uniqueBy(String::length)));
+    }
+
+    @Test
+    public void matchesSafely__mismatch__uniqueBy__Collection_with_duplicates__has_ItemResults() {
+
+        final List<String> strings = asList("B", "a", "D", "A", "b", "a");
+
+        final List<ItemResult> itemResults = matchResults(strings,
+            anIterableOf(String.class).uniqueBy(String::toLowerCase)
+        );
+
+        assertThat(itemResults, hasSize(6));
+        assertThat(itemResults.get(0).isDuplicate(), is(true));
+        assertThat(itemResults.get(1).isDuplicate(), is(true));
+        assertThat(itemResults.get(2).isDuplicate(), is(false));
+        assertThat(itemResults.get(3).isDuplicate(), is(true));
+        assertThat(itemResults.get(4).isDuplicate(), is(true));
+        assertThat(itemResults.get(5).isDuplicate(), is(true));
+    }
+
+    @Test
+    public void matchesSafely__mismatch__unique__Collection_with_duplicate_nulls() {
+
+        final List<String> strings = asList(null, "a", null);
+
+        final List<ItemResult> itemResults = matchResults(strings, anIterableOf(String.class).unique());
+
+        assertThat(itemResults.get(0).isDuplicate(), is(true));
+        assertThat(itemResults.get(1).isDuplicate(), is(false));
+        assertThat(itemResults.get(2).isDuplicate(), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void uniqueBy__error__null_arg() {
+
+        anIterableOf(String.class).uniqueBy(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void uniqueByOrder__error__null_arg() {
+
+        anIterableOf(String.class).uniqueByOrder(null);
+    }
+
+    @Test
+    public void matchesSafely__match__uniqueByOrder__Collection_without_duplicates() {
+
+        final List<String> strings = asList("zzz", "x", "yy");
+
+        assertThat(strings, is(anIterableOf(String.class).uniqueByOrder(comparingInt(String::length))));
+    }
+
+    @Test
+    public void matchesSafely__mismatch__uniqueByOrder__Collection_with_duplicates__has_ItemResults() {
+
+        final List<String> strings = asList("B", "a", "D", "A", "b", "cc");
+
+        final List<ItemResult> itemResults = matchResults(strings,
+            anIterableOf(String.class).uniqueByOrder(String.CASE_INSENSITIVE_ORDER)
+        );
+
+        assertThat(itemResults, hasSize(6));
+        assertThat(itemResults.get(0).isDuplicate(), is(true));
+        assertThat(itemResults.get(1).isDuplicate(), is(true));
+        assertThat(itemResults.get(2).isDuplicate(), is(false));
+        assertThat(itemResults.get(3).isDuplicate(), is(true));
+        assertThat(itemResults.get(4).isDuplicate(), is(true));
+        assertThat(itemResults.get(5).isDuplicate(), is(false));
+    }
+
+    @Test
+    public void matchesSafely__mismatch__uniqueByOrder__and_sorted_with_same_Comparator() {
+
+        final List<String> strings = asList("a", "B", "b", "c");
+
+        final List<ItemResult> itemResults = matchResults(strings,
+            anIterableOf(String.class)
+                .sorted(String.CASE_INSENSITIVE_ORDER)
+                .uniqueByOrder(String.CASE_INSENSITIVE_ORDER)
+        );
+
+        assertThat(itemResults.get(0).isDuplicate(), is(false));
+        assertThat(itemResults.get(1).isDuplicate(), is(true));
+        assertThat(itemResults.get(2).isDuplicate(), is(true));
+        assertThat(itemResults.get(3).isDuplicate(), is(false));
+        assertThat(itemResults.get(2).isBreakingSortOrder(), is(false));
+    }
+
+    @Test
+    public void matchesSafely__mismatch__uniqueByOrder__and_sorted_with_same_Comparator__but_unsorted() {
+
+        final List<String> strings = asList("b", "a", "c", "B");
+
+        final List<ItemResult> itemResults = matchResults(strings,
+            anIterableOf(String.class)
+                .sorted(String.CASE_INSENSITIVE_ORDER)
+                .uniqueByOrder(String.CASE_INSENSITIVE_ORDER)
+        );
+
+        assertThat(itemResults.get(0).isDuplicate(), is(true));
+        assertThat(itemResults.get(1).isDuplicate(), is(false));
+        assertThat(itemResults.get(2).isDuplicate(), is(false));
+        assertThat(itemResults.get(3).isDuplicate(), is(true));
+    }
+
+    private static FluentIterableMatcher<String, Iterable<String>> lengthAndInitialMatcher() {
+        final Attribute<String, Integer> length = attribute("length", String::length);
+        final Attribute<String, Character> initial = attribute("initial", str -> str.charAt(0));
+        final FluentAttributeMatcher<String> shared = a(String.class).with(length, 2).with(initial, 'b');
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class)
+            .withItemsMatching(shared, shared);
+        for (int i = 0; i < 20; i++) {
+            matcher.withItemsMatching(a(String.class).with(length, i % 4).with(initial, (char) ('a' + i % 3)));
+        }
+        return matcher.withItems("zz");
+    }
+
+    private static List<String> lengthAndInitialItems() {
+        final List<String> strings = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            strings.add((char) ('a' + i % 5) + "xyz".substring(0, i % 3));
+        }
+        return strings;
+    }
+
+    @Test
+    public void parallel__describeMismatchSafely__same_as_sequential() {
+
+        final List<String> strings = lengthAndInitialItems();
+        final StringDescription sequential = new StringDescription();
+        final StringDescription parallel = new StringDescription();
+
+        lengthAndInitialMatcher().describeMismatchSafely(strings, sequential);
+        lengthAndInitialMatcher().parallel().describeMismatchSafely(strings, parallel);
+
+        assertThat(parallel.toString(), is(sequential.toString()));
+        assertThat(parallel.toString(), containsString("Not all expectations were fulfilled."));
+    }
+
+    @Test
+    public void parallel__each_matcher_instance_confined_to_one_thread() {
+
+        final List<Integer> ints = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ints.add(i);
+        }
+        final List<ThreadRecordingMatcher> itemMatchers = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            itemMatchers.add(new ThreadRecordingMatcher(i));
+        }
+        final FluentIterableMatcher<Integer, Iterable<Integer>> matcher = anIterableOf(Integer.class)
+            .withItemsMatching(itemMatchers.toArray(new ThreadRecordingMatcher[0]))
+            .withItemsMatching(itemMatchers.get(0))
+            .parallel(1);
+
+        assertThat(matcher.matchesSafely(ints), is(true));
+        for (final ThreadRecordingMatcher itemMatcher : itemMatchers) {
+            assertThat(itemMatcher.threads.size(), is(1));
+        }
+    }
+
+    @Test
+    public void parallel__matchers_applied_concurrently__neither_exactly_nor_ordered() {
+
+        final List<Integer> ints = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ints.add(i);
+        }
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final RendezvousMatcher first = new RendezvousMatcher(0, bothStarted);
+        final RendezvousMatcher second = new RendezvousMatcher(1, bothStarted);
+        final FluentIterableMatcher<Integer, Iterable<Integer>> matcher = anIterableOf(Integer.class)
+            .withItemsMatching(first, second)
+            .parallel(1);
+
+        assertThat(matcher.matchesSafely(ints), is(true));
+        assertThat(first.metTheOther, is(true));
+        assertThat(second.metTheOther, is(true));
+    }
+
+    private static class RendezvousMatcher extends BaseMatcher<Integer> {
+        private final int expected;
+        private final CountDownLatch bothStarted;
+        private volatile Boolean metTheOther;
+
+        private RendezvousMatcher(final int expected, final CountDownLatch bothStarted) {
+            this.expected = expected;
+            this.bothStarted = bothStarted;
+        }
+
+        @Override
+        public boolean matches(final Object item) {
+            if (metTheOther == null) {
+                bothStarted.countDown();
+                try {
+                    metTheOther = bothStarted.await(5, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    metTheOther = false;
+                }
+            }
+            return Integer.valueOf(expected).equals(item);
+        }
+
+        @Override
+        public void describeTo(final Description description) {
+            description.appendValue(expected);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallel__error__negative_threshold() {
+
+        anIterableOf(String.class).parallel(-1);
+    }
+
+    private static class ThreadRecordingMatcher extends BaseMatcher<Integer> {
+        private final Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        private final int expected;
+
+        private ThreadRecordingMatcher(final int expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        public boolean matches(final Object item) {
+            threads.add(Thread.currentThread());
+            return item instanceof Integer && (Integer) item % 16 == expected;
+        }
+
+        @Override
+        public void describeTo(final Description description) {
+            description.appendValue(expected);
+        }
+    }
+
+    @Test
+    public void matchesSafely__mismatch__ofSize__collection_not_iterated() {
+
+        final Collection<String> strings = new AbstractCollection<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                throw new UnsupportedOperationException("Must not be iterated.");
+            }
+
+            @Override
+            public int size() {
+                return 3;
+            }
+        };
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class).ofSize(2);
+
+        assertFalse(matcher.matchesSafely(strings));
+    }
+
+    @Test
+    public void matchesSafely__mismatch__stops_at_first_finding() {
+
+        final List<String> strings = asList("a", "b", "c");
+        final Iterable<String> iterable = strings::iterator;
+        final AtomicInteger invocations = new AtomicInteger();
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class)
+            .ofSize(2)
+            .withItemsMatching(new BaseMatcher<String>() {
+                @Override
+                public boolean matches(final Object item) {
+                    invocations.incrementAndGet();
+                    return true;
+                }
+
+                @Override
+                public void describeTo(final Description description) {
+                    description.appendText("anything");
+                }
+            });
+
+        assertFalse(matcher.matchesSafely(iterable));
+        assertThat(invocations.get(), is(0));
+    }
+
+    @Test
+    public void matchesSafely__mismatch__full_diagnostics_on_demand__has_ItemResults() {
+
+        final List<String> strings = asList("b", "a", "a", "c");
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class)
+            .sorted()
+            .unique()
+            .withItems("c", "d");
+
+        assertFalse(matcher.matchesSafely(strings));
+        final List<ItemResult> itemResults = matcher.getItemResults();
+
+        assertThat(itemResults.size(), is(4));
+        assertTrue(itemResults.get(0).isBreakingSortOrder());
+        assertFalse(itemResults.get(1).isBreakingSortOrder());
+        assertTrue(itemResults.get(1).isDuplicate());
+        assertTrue(itemResults.get(2).isDuplicate());
+        assertTrue(itemResults.get(3).isMatched());
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatchSafely(strings, description);
+        assertThat(description.toString(), containsString("Not all expectations were fulfilled."));
+        assertThat(description.toString(), containsString("Collection is not sorted."));
+        assertThat(description.toString(), containsString("Detected duplicates."));
+    }
+
+    @Test
+    public void matchesSafely__match__stops_once_all_expectations_are_satisfied() {
+
+        final List<Integer> ints = new ArrayList<>();
+        for (int k = 0; k < 10_000; k++) {
+            ints.add(k);
+        }
+        final ThreadRecordingMatcher residue3 = new ThreadRecordingMatcher(3);
+        final AtomicInteger invocations = new AtomicInteger();
+        final FluentIterableMatcher<Integer, Iterable<Integer>> matcher = anIterableOf(Integer.class)
+            .withItems(1, 2)
+            .withItemsMatching(residue3, new BaseMatcher<Integer>() {
+                @Override
+                public boolean matches(final Object item) {
+                    invocations.incrementAndGet();
+                    return (Integer) item > 4;
+                }
+
+                @Override
+                public void describeTo(final Description description) {
+                    description.appendText("> 4");
+                }
+            });
+
+        assertTrue(matcher.matchesSafely(ints));
+        assertThat(invocations.get(), is(6));
+        final List<ItemResult> itemResults = matcher.getItemResults();
+        assertTrue(itemResults.get(9_999).isMatched());
+        assertThat(matcher.getScore(), is(1.0));
+    }
+
+    @Test
+    public void matchesSafely__mismatch__more_expectations_than_matching_items__lazily() {
+
+        final List<String> strings = new ArrayList<>();
+        for (int k = 0; k < 1_000; k++) {
+            strings.add("b" + k);
+        }
+        strings.set(500, "a");
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class)
+            .withItemsMatching(startsWith("a"), containsString("a"));
+
+        assertFalse(matcher.matchesSafely(strings));
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatchSafely(strings, description);
+        assertThat(description.toString(), containsString("Could not find matches for all expectations."));
+    }
+
+    @Test
+    public void describeMismatch__reuses_evaluation__one_shot_Iterable() {
+
+        final List<String> strings = asList("a", "b", "c");
+        final AtomicInteger iterations = new AtomicInteger();
+        final Iterable<String> oneShot = () -> {
+            if (iterations.incrementAndGet() > 1) {
+                throw new IllegalStateException("Already consumed.");
+            }
+            return strings.iterator();
+        };
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class)
+            .ofSize(2)
+            .withItems("a", "d");
+
+        assertFalse(matcher.matches(oneShot));
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatch(oneShot, description);
+
+        assertThat(description.toString(), containsString("Size mismatch. Expected: 2. Actual was: 3."));
+        assertThat(description.toString(), containsString("Not all expectations were fulfilled."));
+        assertThat(iterations.get(), is(1));
+    }
+
+    @Test
+    public void describeMismatch__reevaluates__Collection_changed_size() {
+
+        final List<String> strings = new ArrayList<>(asList("a", "b"));
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class).ofSize(3);
+
+        assertFalse(matcher.matches(strings));
+        strings.add("c");
+        strings.add("d");
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatch(strings, description);
+
+        assertThat(description.toString(), containsString("Size mismatch. Expected: 3. Actual was: 4."));
+    }
+
+    @Test
+    public void describeMismatch__reevaluates__item_replaced_after_successful_match() {
+
+        final List<String> strings = new ArrayList<>(asList("a", "b"));
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class)
+            .exactly()
+            .withItems("a", "b");
+
+        assertTrue(matcher.matches(strings));
+        strings.set(1, "c");
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatch(strings, description);
+
+        assertThat(description.toString(), containsString("Not all expectations were fulfilled."));
+    }
+
+    @Test
+    public void describeMismatch__reevaluates__item_replaced_after_description() {
+
+        final List<String> strings = new ArrayList<>(asList("a", "b"));
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class)
+            .exactly()
+            .withItems("a", "c");
+        assertFalse(matcher.matches(strings));
+        matcher.describeMismatch(strings, new StringDescription());
+
+        strings.set(1, "c");
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatch(strings, description);
+
+        assertThat(description.toString(), not(containsString("Not all expectations were fulfilled.")));
+    }
+
+    @Test
+    public void streaming__matchesSafely__match() {
+
+        final Iterable<Integer> ints = () -> IntStream.range(0, 100_000).iterator();
+        final FluentIterableMatcher<Integer, Iterable<Integer>> matcher = anIterableOf(Integer.class)
+            .streaming()
+            .ofSize(100_000)
+            .sorted()
+            .withItems(7, 70_000)
+            .withItemsMatching(greaterThan(99_998));
+
+        assertTrue(matcher.matchesSafely(ints));
+        assertThat(matcher.getScore(), is(1.0));
+    }
+
+    @Test
+    public void streaming__describeMismatchSafely__same_findings_as_without_streaming() {
+
+        final List<Integer> ints = asList(1, 3, 2, 5, 8, 4, 9);
+        final FluentIterableMatcher<Integer, Iterable<Integer>> streaming = anIterableOf(Integer.class)
+            .streaming()
+            .ofSize(6)
+            .sorted()
+            .withItems(3, 1, 10);
+        final FluentIterableMatcher<Integer, Iterable<Integer>> materializing = anIterableOf(Integer.class)
+            .ofSize(6)
+            .sorted()
+            .withItems(3, 1, 10);
+        final StringDescription streamed = new StringDescription();
+        final StringDescription materialized = new StringDescription();
+
+        assertFalse(streaming.matchesSafely(ints));
+        streaming.describeMismatchSafely(ints, streamed);
+        materializing.describeMismatchSafely(ints, materialized);
+
+        assertThat(findingsOf(streamed.toString()), is(findingsOf(materialized.toString())));
+        assertThat(streaming.getScore(), is(materializing.getScore()));
+    }
+
+    private static String findingsOf(final String description) {
+        return description.substring(0, description.indexOf("\n\n", description.indexOf("Findings:")));
+    }
+
+    @Test
+    public void streaming__mismatch__has_ItemResults_around_violations() {
+
+        final Iterable<Integer> ints = () -> IntStream.range(0, 1000).map(k -> k == 500 ? 0 : k).iterator();
+        final FluentIterableMatcher<Integer, Iterable<Integer>> matcher = anIterableOf(Integer.class)
+            .streaming(2)
+            .sorted();
+
+        assertFalse(matcher.matchesSafely(ints));
+        final List<ItemResult> itemResults = matcher.getItemResults();
+
+        assertThat(itemResults.stream().map(ItemResult::getIndex).collect(toList()), is(asList(0, 1, 498, 499, 500, 501, 502)));
+        assertTrue(itemResults.get(4).isBreakingSortOrder());
+        assertFalse(itemResults.get(3).isBreakingSortOrder());
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatchSafely(ints, description);
+        assertThat(description.toString(), containsString("⦗ 500⦘⦗0  ⦘  ↕"));
+    }
+
+    @Test
+    public void streaming__mismatch__items_left_out_described() {
+
+        final Iterable<Integer> ints = () -> IntStream.range(0, 1000).map(k -> k == 500 ? 0 : k).iterator();
+        final FluentIterableMatcher<Integer, Iterable<Integer>> matcher = anIterableOf(Integer.class)
+            .streaming(2)
+            .sorted();
+
+        assertFalse(matcher.matchesSafely(ints));
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatchSafely(ints, description);
+
+        assertThat(description.toString(), containsString("\n⦗2..497⦘ 496 item(s) left out\n⦗ 498⦘"));
+        assertThat(description.toString(), containsString("\n⦗503..999⦘ 497 item(s) left out\n"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void streaming__error__exactly() {
+
+        anIterableOf(String.class).streaming().exactly().matchesSafely(asList("a", "b"));
+    }
+
+    @Test
+    public void streaming__mismatch__violating_items_counted_beyond_the_retained_ones() {
+
+        final Iterable<Integer> ints = () -> IntStream.range(0, 1000).iterator();
+        final MatcherFactory an = ConvenientMatchers.customized()
+            .withMaxItemLines(10)
+            .build();
+        final FluentIterableMatcher<Integer, Iterable<Integer>> matcher = an.<Integer, Iterable<Integer>>iterableOf(Integer.class)
+            .streaming(0)
+            .ofSize(999)
+            .withItemsMatching(greaterThan(500));
+
+        assertFalse(matcher.matchesSafely(ints));
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatchSafely(ints, description);
+
+        assertThat(matcher.getItemResults(), hasSize(200));
+        assertThat(description.toString(), containsString("⦗10..999⦘ 990 more item(s), 491 of them violating"));
+    }
+
+    @Test
+    public void streaming__mismatch__huge_radius() {
+
+        final Iterable<Integer> ints = () -> IntStream.range(0, 1000).map(k -> k == 500 ? 0 : k).iterator();
+        final FluentIterableMatcher<Integer, Iterable<Integer>> matcher = anIterableOf(Integer.class)
+            .streaming(Integer.MAX_VALUE)
+            .sorted();
+
+        assertFalse(matcher.matchesSafely(ints));
+        assertThat(matcher.getItemResults(), hasSize(200));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void streaming__error__ordered() {
+
+        anIterableOf(String.class).streaming().ordered().matchesSafely(asList("a", "b"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void streaming__error__negative_radius() {
+
+        anIterableOf(String.class).streaming(-1);
+    }
+
+    @Test
+    public void matchesSafely__mismatch__RandomAccess_list_indexed_in_place() {
+
+        final List<String> strings = new RandomAccessList<>(asList("b", "a", "c"));
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class)
+            .sorted()
+            .withItems("c");
+
+        assertFalse(matcher.matchesSafely(strings));
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatchSafely(strings, description);
+        assertThat(description.toString(), containsString("Collection is not sorted."));
+    }
+
+    /* Fails on iteration, so that only indexed access works. */
+    private static class RandomAccessList<E> extends AbstractList<E> implements RandomAccess {
+        private final List<E> elements;
+
+        private RandomAccessList(final List<E> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public E get(final int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            throw new UnsupportedOperationException("Must not be iterated.");
+        }
+
+        @Override
+        public Spliterator<E> spliterator() {
+            throw new UnsupportedOperationException("Must not be iterated.");
+        }
+    }
+
     @Test
     public void matchesSafely__resets() {
 
@@ -2371,7 +3113,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult3.getActual(), is("yy"));
         assertThat(itemResult3.getIndex(), is(2));
         assertThat(itemResult3.isMatched(), is(true));
-        assertThat(itemResult3.isBreakingItemOrder(), is(true));
+        assertThat(itemResult3.isBreakingItemOrder(), is(false));
         assertThat(itemResult3.isBreakingSortOrder(), is(false));
         assertThat(itemResult3.isDuplicate(), is(true));
         assertThat(itemResult3.isUnwanted(), is(false));
@@ -2380,7 +3122,7 @@ public class FluentIterableMatcherTest {
         assertThat(itemResult4.getActual(), is("yy"));
         assertThat(itemResult4.getIndex(), is(3));
         assertThat(itemResult4.isMatched(), is(true));
-        assertThat(itemResult4.isBreakingItemOrder(), is(false));
+        assertThat(itemResult4.isBreakingItemOrder(), is(true));
         assertThat(itemResult4.isBreakingSortOrder(), is(false));
         assertThat(itemResult4.isDuplicate(), is(true));
         assertThat(itemResult4.isUnwanted(), is(false));
@@ -2931,10 +3673,10 @@ public class FluentIterableMatcherTest {
             "\"Collection is not sorted.\"\n" +
             "\"Detected duplicates.\"\n" +
             "\n" +
-            "⦗0⦘⦗Paper{text='PAP!', pages=40}  ⦘💕  ↔ 👯  \n" +
+            "⦗0⦘⦗Paper{text='PAP!', pages=40}  ⦘💕    👯  \n" +
             "⦗1⦘⦗Paper{text='The Law Of Gravity⦘    ↔   🚯 💔⦗1⦘⦗text = 'PAP!'; pages = '40'⦘\n" +
             "⦗2⦘⦗Paper{text='Booh!', pages=50} ⦘  ↕ ↔   🚯 💔⦗2⦘⦗text = 'Grave'; pages = '0'⦘\n" +
-            "⦗3⦘⦗Paper{text='PAP!', pages=40}  ⦘💕↕   👯  \n" +
+            "⦗3⦘⦗Paper{text='PAP!', pages=40}  ⦘💕↕ ↔ 👯  \n" +
             "\n"
         ));
     }
@@ -2986,8 +3728,8 @@ public class FluentIterableMatcherTest {
             "\"Collection is not sorted.\"\n\"Detected duplicates.\"\n" +
             "\n" +
             "⦗0⦘⦗Paper{text='PAP!', pages=40}  ⦘💕    👯  \n" +
-            "⦗1⦘⦗Paper{text='Booh!', pages=50} ⦘    ↔      💔⦗2⦘⦗text = 'Booh!'; pages = '3'⦘ 💔⦗1⦘⦗text = 'Grave'; pages = '0'⦘ 💔⦗0⦘⦗text = 'PAP!'; pages = '40'⦘\n" +
-            "⦗2⦘⦗Paper{text='The Law Of Gravity⦘    ↔      💔⦗2⦘⦗text = 'Booh!'; pages = '3'⦘ 💔⦗1⦘⦗text = 'Grave'; pages = '0'⦘ 💔⦗0⦘⦗text = 'PAP!'; pages = '40'⦘\n" +
+            "⦗1⦘⦗Paper{text='Booh!', pages=50} ⦘           💔⦗2⦘⦗text = 'Booh!'; pages = '3'⦘ 💔⦗1⦘⦗text = 'Grave'; pages = '0'⦘ 💔⦗0⦘⦗text = 'PAP!'; pages = '40'⦘\n" +
+            "⦗2⦘⦗Paper{text='The Law Of Gravity⦘           💔⦗2⦘⦗text = 'Booh!'; pages = '3'⦘ 💔⦗1⦘⦗text = 'Grave'; pages = '0'⦘ 💔⦗0⦘⦗text = 'PAP!'; pages = '40'⦘\n" +
             "⦗3⦘⦗Paper{text='PAP!', pages=40}  ⦘💕↕ ↔ 👯  \n" +
             "\n"
         ));
@@ -3122,12 +3864,12 @@ public class FluentIterableMatcherTest {
             "\"Collection is not sorted.\"\n" +
             "\"Detected duplicates.\"\n\n" +
             "⦗0⦘⦗Disease{name='crise d'appendic⦘💕        \n" +
-            "⦗1⦘⦗Disease{name='refroidissement'⦘    ↔      💔⦗2⦘⦗disease name = 'refroidissement'; treatment ▶ treatment name = 'repos au lit'; treatment ▶ inventor = 'L'Objet Trouvé'; duration = '7'⦘ 💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗0⦘⦗<Disease{name='crise d'appendicite aiguë', cure=Treatment{name='l'appendicectomie', inventor='Avicenne'}, duration=1}>⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗4⦘⦗<Disease{name='encéphalopathie spongiaire bovine', cure=Treatment{name='🤯', inventor='null'}, duration=-5}>⦘ 💔⦗5⦘⦗<Disease{name='cancer', cure=Treatment{name='chimiothérapie ', inventor='industrie pharmaceutique'}, duration=90}>⦘ 💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘\n" +
-            "⦗2⦘⦗Disease{name='démence d'Alzhei⦘    ↔ 👯   💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗2⦘⦗disease name = 'refroidissement'; treatment ▶ treatment name = 'repos au lit'; treatment ▶ inventor = 'L'Objet Trouvé'; duration = '7'⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗0⦘⦗<Disease{name='crise d'appendicite aiguë', cure=Treatment{name='l'appendicectomie', inventor='Avicenne'}, duration=1}>⦘ 💔⦗4⦘⦗<Disease{name='encéphalopathie spongiaire bovine', cure=Treatment{name='🤯', inventor='null'}, duration=-5}>⦘ 💔⦗5⦘⦗<Disease{name='cancer', cure=Treatment{name='chimiothérapie ', inventor='industrie pharmaceutique'}, duration=90}>⦘ 💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘\n" +
-            "⦗3⦘⦗Disease{name='Front National',⦘    ↔      💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗2⦘⦗disease name = 'refroidissement'; treatment ▶ treatment name = 'repos au lit'; treatment ▶ inventor = 'L'Objet Trouvé'; duration = '7'⦘ 💔⦗4⦘⦗<Disease{name='encéphalopathie spongiaire bovine', cure=Treatment{name='🤯', inventor='null'}, duration=-5}>⦘ 💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗5⦘⦗<Disease{name='cancer', cure=Treatment{name='chimiothérapie ', inventor='industrie pharmaceutique'}, duration=90}>⦘ 💔⦗0⦘⦗<Disease{name='crise d'appendicite aiguë', cure=Treatment{name='l'appendicectomie', inventor='Avicenne'}, duration=1}>⦘\n" +
-            "⦗4⦘⦗Disease{name='intolérance au l⦘💕↕ ↔     \n" +
-            "⦗5⦘⦗Disease{name='démence d'Alzhei⦘  ↕ ↔ 👯   💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗5⦘⦗<Disease{name='cancer', cure=Treatment{name='chimiothérapie ', inventor='industrie pharmaceutique'}, duration=90}>⦘ 💔⦗4⦘⦗<Disease{name='encéphalopathie spongiaire bovine', cure=Treatment{name='🤯', inventor='null'}, duration=-5}>⦘ 💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗2⦘⦗disease name = 'refroidissement'; treatment ▶ treatment name = 'repos au lit'; treatment ▶ inventor = 'L'Objet Trouvé'; duration = '7'⦘ 💔⦗0⦘⦗<Disease{name='crise d'appendicite aiguë', cure=Treatment{name='l'appendicectomie', inventor='Avicenne'}, duration=1}>⦘\n" +
-            "⦗6⦘⦗Disease{name='encéphalopathie ⦘💕↕ ↔     \n\n"
+            "⦗1⦘⦗Disease{name='refroidissement'⦘           💔⦗2⦘⦗disease name = 'refroidissement'; treatment ▶ treatment name = 'repos au lit'; treatment ▶ inventor = 'L'Objet Trouvé'; duration = '7'⦘ 💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗0⦘⦗<Disease{name='crise d'appendicite aiguë', cure=Treatment{name='l'appendicectomie', inventor='Avicenne'}, duration=1}>⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗4⦘⦗<Disease{name='encéphalopathie spongiaire bovine', cure=Treatment{name='🤯', inventor='null'}, duration=-5}>⦘ 💔⦗5⦘⦗<Disease{name='cancer', cure=Treatment{name='chimiothérapie ', inventor='industrie pharmaceutique'}, duration=90}>⦘ 💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘\n" +
+            "⦗2⦘⦗Disease{name='démence d'Alzhei⦘      👯   💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗2⦘⦗disease name = 'refroidissement'; treatment ▶ treatment name = 'repos au lit'; treatment ▶ inventor = 'L'Objet Trouvé'; duration = '7'⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗0⦘⦗<Disease{name='crise d'appendicite aiguë', cure=Treatment{name='l'appendicectomie', inventor='Avicenne'}, duration=1}>⦘ 💔⦗4⦘⦗<Disease{name='encéphalopathie spongiaire bovine', cure=Treatment{name='🤯', inventor='null'}, duration=-5}>⦘ 💔⦗5⦘⦗<Disease{name='cancer', cure=Treatment{name='chimiothérapie ', inventor='industrie pharmaceutique'}, duration=90}>⦘ 💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘\n" +
+            "⦗3⦘⦗Disease{name='Front National',⦘           💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗2⦘⦗disease name = 'refroidissement'; treatment ▶ treatment name = 'repos au lit'; treatment ▶ inventor = 'L'Objet Trouvé'; duration = '7'⦘ 💔⦗4⦘⦗<Disease{name='encéphalopathie spongiaire bovine', cure=Treatment{name='🤯', inventor='null'}, duration=-5}>⦘ 💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗5⦘⦗<Disease{name='cancer', cure=Treatment{name='chimiothérapie ', inventor='industrie pharmaceutique'}, duration=90}>⦘ 💔⦗0⦘⦗<Disease{name='crise d'appendicite aiguë', cure=Treatment{name='l'appendicectomie', inventor='Avicenne'}, duration=1}>⦘\n" +
+            "⦗4⦘⦗Disease{name='intolérance au l⦘💕↕       \n" +
+            "⦗5⦘⦗Disease{name='démence d'Alzhei⦘  ↕   👯   💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗5⦘⦗<Disease{name='cancer', cure=Treatment{name='chimiothérapie ', inventor='industrie pharmaceutique'}, duration=90}>⦘ 💔⦗4⦘⦗<Disease{name='encéphalopathie spongiaire bovine', cure=Treatment{name='🤯', inventor='null'}, duration=-5}>⦘ 💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗2⦘⦗disease name = 'refroidissement'; treatment ▶ treatment name = 'repos au lit'; treatment ▶ inventor = 'L'Objet Trouvé'; duration = '7'⦘ 💔⦗0⦘⦗<Disease{name='crise d'appendicite aiguë', cure=Treatment{name='l'appendicectomie', inventor='Avicenne'}, duration=1}>⦘\n" +
+            "⦗6⦘⦗Disease{name='encéphalopathie ⦘💕↕       \n\n"
         ));
 
     }
@@ -3177,10 +3919,10 @@ public class FluentIterableMatcherTest {
             "\"Items did not appear in the expected order.\"\n" +
             "\"Collection is not sorted.\"\n" +
             "\"Detected duplicates.\"\n\n" +
-            "[0][Paper{text='PAP!', pages=40}  ]OK  <>2+  \n" +
+            "[0][Paper{text='PAP!', pages=40}  ]OK    2+  \n" +
             "[1][Paper{text='The Law Of Gravity]    <>  -- FAIL[1][text = 'PAP!'; pages = '40']\n" +
             "[2][Paper{text='Booh!', pages=50} ]  ^v<>  -- FAIL[2][text = 'Grave'; pages = '0']\n" +
-            "[3][Paper{text='PAP!', pages=40}  ]OK^v  2+  \n" +
+            "[3][Paper{text='PAP!', pages=40}  ]OK^v<>2+  \n" +
             "\n"
         ));
     }
@@ -3315,12 +4057,12 @@ public class FluentIterableMatcherTest {
             "\"Detected duplicates.\"\n" +
             "\n" +
             "⦗0⦘⦗🤮 crise d'appendicite aiguë  ⦘💕        \n" +
-            "⦗1⦘⦗🤮 refroidissement            ⦘    ↔      💔⦗2⦘⦗disease name = 'refroidissement'; treatment = '💉 chimiothérapie '; duration = '7'⦘ 💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗0⦘⦗<🤮 crise d'appendicite aiguë>⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗4⦘⦗<🤮 encéphalopathie spongiaire bovine>⦘ 💔⦗5⦘⦗<🤮 cancer>⦘ 💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘\n" +
-            "⦗2⦘⦗🤮 démence d'Alzheimer        ⦘    ↔ 👯   💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗2⦘⦗disease name = 'refroidissement'; treatment = '💉 chimiothérapie '; duration = '7'⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗0⦘⦗<🤮 crise d'appendicite aiguë>⦘ 💔⦗4⦘⦗<🤮 encéphalopathie spongiaire bovine>⦘ 💔⦗5⦘⦗<🤮 cancer>⦘ 💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘\n" +
-            "⦗3⦘⦗🤮 Front National             ⦘    ↔      💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗2⦘⦗disease name = 'refroidissement'; treatment = '💉 chimiothérapie '; duration = '7'⦘ 💔⦗4⦘⦗<🤮 encéphalopathie spongiaire bovine>⦘ 💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗5⦘⦗<🤮 cancer>⦘ 💔⦗0⦘⦗<🤮 crise d'appendicite aiguë>⦘\n" +
-            "⦗4⦘⦗🤮 intolérance au lactose     ⦘💕↕ ↔     \n" +
-            "⦗5⦘⦗🤮 démence d'Alzheimer        ⦘  ↕ ↔ 👯   💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗5⦘⦗<🤮 cancer>⦘ 💔⦗4⦘⦗<🤮 encéphalopathie spongiaire bovine>⦘ 💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗2⦘⦗disease name = 'refroidissement'; treatment = '💉 chimiothérapie '; duration = '7'⦘ 💔⦗0⦘⦗<🤮 crise d'appendicite aiguë>⦘\n" +
-            "⦗6⦘⦗🤮 encéphalopathie spongiaire ⦘💕↕ ↔     \n\n"
+            "⦗1⦘⦗🤮 refroidissement            ⦘           💔⦗2⦘⦗disease name = 'refroidissement'; treatment = '💉 chimiothérapie '; duration = '7'⦘ 💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗0⦘⦗<🤮 crise d'appendicite aiguë>⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗4⦘⦗<🤮 encéphalopathie spongiaire bovine>⦘ 💔⦗5⦘⦗<🤮 cancer>⦘ 💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘\n" +
+            "⦗2⦘⦗🤮 démence d'Alzheimer        ⦘      👯   💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗2⦘⦗disease name = 'refroidissement'; treatment = '💉 chimiothérapie '; duration = '7'⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗0⦘⦗<🤮 crise d'appendicite aiguë>⦘ 💔⦗4⦘⦗<🤮 encéphalopathie spongiaire bovine>⦘ 💔⦗5⦘⦗<🤮 cancer>⦘ 💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘\n" +
+            "⦗3⦘⦗🤮 Front National             ⦘           💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗2⦘⦗disease name = 'refroidissement'; treatment = '💉 chimiothérapie '; duration = '7'⦘ 💔⦗4⦘⦗<🤮 encéphalopathie spongiaire bovine>⦘ 💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗5⦘⦗<🤮 cancer>⦘ 💔⦗0⦘⦗<🤮 crise d'appendicite aiguë>⦘\n" +
+            "⦗4⦘⦗🤮 intolérance au lactose     ⦘💕↕       \n" +
+            "⦗5⦘⦗🤮 démence d'Alzheimer        ⦘  ↕   👯   💔⦗1⦘⦗disease name = 'démence d'Alzheimer'; treatment ▶ treatment name = 'aucune'; treatment ▶ inventor = 'Alzheimer'; duration = '6935'⦘ 💔⦗5⦘⦗<🤮 cancer>⦘ 💔⦗4⦘⦗<🤮 encéphalopathie spongiaire bovine>⦘ 💔⦗6⦘⦗disease name = 'schizophrénie'; treatment ▶ treatment name = 'l'éducation'; treatment ▶ inventor ⩳ 'null'; duration = '2147483647'⦘ 💔⦗3⦘⦗disease name = 'intolérance au lactose'⦘ 💔⦗2⦘⦗disease name = 'refroidissement'; treatment = '💉 chimiothérapie '; duration = '7'⦘ 💔⦗0⦘⦗<🤮 crise d'appendicite aiguë>⦘\n" +
+            "⦗6⦘⦗🤮 encéphalopathie spongiaire ⦘💕↕       \n\n"
         ));
     }
 
@@ -3540,6 +4282,445 @@ public class FluentIterableMatcherTest {
         }
     }
 
+    @Test
+    public void ordered__mismatch__only_the_misplaced_item_breaks_the_order() {
+
+        final List<Integer> actual = IntStream.range(0, 1000).boxed().collect(toList());
+        actual.add(0, actual.remove(500));
+        final FluentIterableMatcher<Integer, Iterable<Integer>> matcher = anIterableOf(Integer.class)
+            .ordered()
+            .withItems(IntStream.range(0, 1000).boxed().toArray(Integer[]::new));
+
+        assertFalse(matcher.matches(actual));
+        final List<Integer> breakingOrder = matcher.getItemResults().stream()
+            .filter(ItemResult::isBreakingItemOrder)
+            .map(ItemResult::getIndex)
+            .collect(toList());
+        assertThat(breakingOrder, is(singletonList(0)));
+    }
+
+    @Test
+    public void ordered__match__unrelated_items_in_between_do_not_break_the_order() {
+
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class)
+            .ordered()
+            .sorted()
+            .withItems("a", "c");
+
+        assertFalse(matcher.matches(asList("a", "b", "c", "a")));
+        assertThat(matcher.getItemResults().stream().anyMatch(ItemResult::isBreakingItemOrder), is(false));
+    }
+
+    @Test
+    public void sorted__mismatch__only_the_misplaced_item_breaks_the_sort_order() {
+
+        final List<Integer> actual = IntStream.range(0, 100_000).boxed().collect(toList());
+        actual.add(actual.remove(500));
+        final FluentIterableMatcher<Integer, Iterable<Integer>> matcher = anIterableOf(Integer.class).sorted();
+
+        assertFalse(matcher.matches(actual));
+        final List<Integer> breakingSortOrder = matcher.getItemResults().stream()
+            .filter(ItemResult::isBreakingSortOrder)
+            .map(ItemResult::getIndex)
+            .collect(toList());
+        assertThat(breakingSortOrder, is(singletonList(99_999)));
+    }
+
+    @Test
+    public void compile__embedded_matcher__same_descriptions() {
+
+        final Treatment coldTherapy = new Treatment("repos au lit", "les ancêtres");
+        final Disease cold = new Disease("refroidissement", coldTherapy, 7);
+        final Treatment alzheimerTherapy = new Treatment("aucune", "Alzheimer");
+        final Disease alzheimer = new Disease("démence d'Alzheimer", alzheimerTherapy, 365 * 20);
+        final List<Disease> diseases = Arrays.asList(alzheimer, cold, alzheimer);
+        final FluentIterableMatcher<Disease, Iterable<Disease>> matcher = anIterableOf(Disease.class)
+            .ofSize(3)
+            .sorted(comparingInt(Disease::getDuration))
+            .unique()
+            .withItems(cold)
+            .withItemsMatching(
+                a(Disease.class)
+                    .with(diseaseName, "démence d'Alzheimer")
+                    .with(treatment, a(Treatment.class)
+                        .with(treatmentName, "aucune")
+                        .with(inventor, "Alois"))
+            );
+        final Matcher<Iterable<Disease>> compiled = matcher.compile();
+        final StringDescription expected = new StringDescription();
+        final StringDescription actual = new StringDescription();
+        final StringDescription expectedMismatch = new StringDescription();
+        final StringDescription actualMismatch = new StringDescription();
+
+        assertFalse(matcher.matches(diseases));
+        assertFalse(compiled.matches(diseases));
+        matcher.describeTo(expected);
+        compiled.describeTo(actual);
+        matcher.describeMismatch(diseases, expectedMismatch);
+        compiled.describeMismatch(diseases, actualMismatch);
+
+        assertThat(actual.toString(), is(expected.toString()));
+        assertThat(actualMismatch.toString(), is(expectedMismatch.toString()));
+        assertThat(((ScorableMatcher) compiled).getScore(), is(matcher.getScore()));
+    }
+
+    @Test
+    public void compile__not_affected_by_later_changes() {
+
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class).withItems("a");
+        final Matcher<Iterable<String>> compiled = matcher.compile();
+
+        matcher.withItems("b").exactly();
+
+        assertTrue(compiled.matches(asList("c", "a")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compile__error__invalid_setup() {
+
+        anIterableOf(String.class).ofSize(1).withItems("a", "b").compile();
+    }
+
+    @Test
+    public void compile__shared_between_threads() throws InterruptedException {
+
+        final Matcher<Iterable<Integer>> compiled = anIterableOf(Integer.class)
+            .sorted()
+            .withItemsMatching(greaterThan(1), greaterThan(2))
+            .compile();
+        final AtomicInteger failures = new AtomicInteger();
+        final Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            final boolean matching = t % 2 == 0;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    final List<Integer> actual = matching ? asList(1, 2, 3) : asList(3, 1);
+                    final boolean matched = compiled.matches(actual);
+                    final double score = ((ScorableMatcher) compiled).getScore();
+                    final StringDescription mismatch = new StringDescription();
+                    compiled.describeMismatch(actual, mismatch);
+                    if (matched != matching || (score == 1.0) != matching || matching == mismatch.toString().contains("Collection is not sorted.")) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(failures.get(), is(0));
+    }
+
+    @Test
+    public void compile__actual_not_kept_after_describeMismatch() throws InterruptedException {
+
+        final Matcher<Iterable<String>> compiled = anIterableOf(String.class).withItems("a").compile();
+        List<String> actual = new ArrayList<>(asList("b", "c"));
+        assertFalse(compiled.matches(actual));
+        compiled.describeMismatch(actual, new StringDescription());
+        final double score = ((ScorableMatcher) compiled).getScore();
+        final WeakReference<List<String>> reference = new WeakReference<>(actual);
+
+        //noinspection UnusedAssignment
+        actual = null;
+
+        assertTrue(collected(reference));
+        assertThat(((ScorableMatcher) compiled).getScore(), is(score));
+    }
+
+    @Test
+    public void compile__actual_not_kept_after_match() throws InterruptedException {
+
+        final Matcher<Iterable<String>> compiled = anIterableOf(String.class).withItems("a").compile();
+        List<String> actual = new ArrayList<>(asList("a", "c"));
+        assertTrue(compiled.matches(actual));
+        final WeakReference<List<String>> reference = new WeakReference<>(actual);
+
+        //noinspection UnusedAssignment
+        actual = null;
+
+        assertTrue(collected(reference));
+        assertThat(((ScorableMatcher) compiled).getScore(), is(1.0));
+    }
+
+    private static boolean collected(final WeakReference<?> reference) throws InterruptedException {
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        return reference.get() == null;
+    }
+
+    @Test
+    public void paired__mismatch__each_expectation_shown_once() {
+
+        final Attribute<String, Integer> length = attribute("length", String::length);
+        final Attribute<String, Character> initial = attribute("initial", str -> str.charAt(0));
+        final Attribute<String, Character> last = attribute("last", str -> str.charAt(str.length() - 1));
+        final FluentAttributeMatcher<String> m1 = a(String.class).with(length, 3).with(initial, 'a').with(last, 'z');
+        final FluentAttributeMatcher<String> m2 = a(String.class).with(length, 5).with(initial, 'a').with(last, 'q');
+
+        final List<ItemResult> itemResults = matchResults(asList("abq", "xyz", "ooooo"),
+            anIterableOf(String.class)
+                .paired()
+                .withItemsMatching(m1, m2)
+        );
+
+        assertThat(itemResults.get(0).getMismatchedItemMatchers().size(), is(1));
+        assertSame(((ItemResult.MatcherWithIndex) itemResults.get(0).getMismatchedItemMatchers().get(0)).getMatcher(), m2);
+        assertThat(itemResults.get(1).getMismatchedItemMatchers().size(), is(1));
+        assertSame(((ItemResult.MatcherWithIndex) itemResults.get(1).getMismatchedItemMatchers().get(0)).getMatcher(), m1);
+        assertThat(itemResults.get(2).getMismatchedItemMatchers().size(), is(0));
+    }
+
+    @Test
+    public void paired__mismatch__beyond_cap__best_scored_matchers() {
+
+        final Attribute<String, Integer> length = attribute("length", String::length);
+        final Attribute<String, Character> initial = attribute("initial", str -> str.charAt(0));
+        final List<Matcher<String>> expectations = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            expectations.add(a(String.class).with(length, 1 + i % 7).with(initial, (char) ('a' + i % 5)));
+        }
+        final List<String> strings = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            strings.add((char) ('f' + i % 6) + "xyzuvw".substring(0, i % 4 + 3));
+        }
+        @SuppressWarnings("unchecked") final Matcher<String>[] matchers = expectations.toArray(new Matcher[0]);
+
+        final List<ItemResult> paired = matchResults(strings, anIterableOf(String.class).paired().withItemsMatching(matchers));
+        final List<ItemResult> unpaired = matchResults(strings, anIterableOf(String.class).withItemsMatching(matchers));
+
+        for (int j = 0; j < strings.size(); j++) {
+            final List<Integer> all = matcherIndices(unpaired.get(j));
+            assertThat(matcherIndices(paired.get(j)), is(all.subList(0, Math.min(3, all.size()))));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Integer> matcherIndices(final ItemResult itemResult) {
+        return ((List<ItemResult.MatcherWithIndex>) itemResult.getMismatchedItemMatchers()).stream()
+            .map(ItemResult.MatcherWithIndex::getIndex)
+            .collect(toList());
+    }
+
+    @Test
+    public void describeMismatchSafely__customized_report_limits() {
+
+        final MatcherFactory an = ConvenientMatchers.customized()
+            .withMaxItemLines(10)
+            .withContextRadius(1)
+            .build();
+        final List<Integer> ints = IntStream.range(0, 100_000).map(k -> k == 500 ? 0 : k).boxed().collect(toList());
+        final FluentIterableMatcher<Integer, Iterable<Integer>> matcher = an.<Integer, Iterable<Integer>>iterableOf(Integer.class).sorted();
+        final StringDescription description = new StringDescription();
+
+        assertFalse(matcher.matches(ints));
+        matcher.describeMismatch(ints, description);
+
+        assertThat(description.toString(), containsString("⦗0..498⦘ 499 item(s)\n"));
+        assertThat(description.toString(), containsString("⦗   500⦘⦗0  ⦘  ↕"));
+        assertThat(description.toString(), containsString("⦗502..99999⦘ 99498 item(s)\n"));
+    }
+
+    @Test
+    public void describeMismatch__debugging__written_piece_by_piece() {
+
+        final List<Integer> ints = IntStream.range(0, 2000).map(k -> k == 1000 ? 0 : k).boxed().collect(toList());
+        final FluentIterableMatcher<Integer, Iterable<Integer>> matcher = anIterableOf(Integer.class)
+            .debugging()
+            .sorted()
+            .withItemsMatching(greaterThan(5000));
+        final StringBuilder written = new StringBuilder();
+        final AtomicInteger longestPiece = new AtomicInteger();
+        final Appendable out = new Appendable() {
+            @Override
+            public Appendable append(final CharSequence csq) {
+                longestPiece.accumulateAndGet(csq.length(), Math::max);
+                written.append(csq);
+                return this;
+            }
+
+            @Override
+            public Appendable append(final CharSequence csq, final int start, final int end) {
+                return append(csq.subSequence(start, end));
+            }
+
+            @Override
+            public Appendable append(final char c) {
+                return append(String.valueOf(c));
+            }
+        };
+        final StringDescription expected = new StringDescription();
+
+        assertFalse(matcher.matches(ints));
+        matcher.describeMismatch(ints, expected);
+        matcher.describeMismatch(ints, new StringDescription(out));
+
+        assertThat(written.toString(), is(expected.toString()));
+        assertThat(written.length(), greaterThan(100_000));
+        // Only the "was" clause of the TypeSafeMatcher comes in one piece.
+        assertThat(longestPiece.get(), is(String.valueOf(ints).length()));
+    }
+
+    private static class ScorableLengthMatcher extends BaseMatcher<String> implements ScorableMatcher {
+        private final int length;
+        private final AtomicInteger scored;
+        private int lastLength;
+
+        private ScorableLengthMatcher(final int length, final AtomicInteger scored) {
+            this.length = length;
+            this.scored = scored;
+        }
+
+        @Override
+        public boolean matches(final Object item) {
+            lastLength = ((String) item).length();
+            return lastLength == length;
+        }
+
+        @Override
+        public void describeTo(final Description description) {
+            description.appendText("length " + length);
+        }
+
+        @Override
+        public double getScore() {
+            scored.incrementAndGet();
+            return 1.0 / (1 + Math.abs(lastLength - length));
+        }
+    }
+
+    @Test
+    public void matches__scores_not_computed() {
+
+        final AtomicInteger scored = new AtomicInteger();
+        final Matcher<String> scorable = new ScorableLengthMatcher(1, scored);
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class)
+            .withItemsMatching(scorable);
+
+        assertTrue(matcher.matches(asList("abc", "de", "f")));
+        assertThat(scored.get(), is(0));
+
+        assertFalse(matcher.matches(asList("abc", "de")));
+        matcher.describeMismatch(asList("abc", "de"), new StringDescription());
+        assertThat(scored.get(), is(2));
+    }
+
+    @Test
+    public void describeMismatch__windowed__only_printed_items_scored() {
+
+        final AtomicInteger scored = new AtomicInteger();
+        final MatcherFactory an = ConvenientMatchers.customized()
+            .withContextRadius(1)
+            .withMaxItemLines(3)
+            .build();
+        final FluentIterableMatcher<String, Iterable<String>> matcher = an.<String, Iterable<String>>iterableOf(String.class)
+            .withItemsMatching(new ScorableLengthMatcher(1, scored));
+        final List<String> strings = IntStream.range(0, 1000).mapToObj(j -> "ab").collect(toList());
+
+        assertFalse(matcher.matches(strings));
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatch(strings, description);
+
+        assertThat(description.toString(), containsString("997 more item(s), 997 of them violating"));
+        assertThat(scored.get(), is(3));
+    }
+
+    @Test
+    public void score__leaves_last_evaluation_as_it_is() {
+
+        final FluentIterableMatcher<String, Iterable<String>> matcher = anIterableOf(String.class)
+            .ofSize(2)
+            .withItems("a", "b");
+
+        assertFalse(matcher.matches(asList("c", "d", "e")));
+        final double score = matcher.getScore();
+
+        assertThat(matcher.score(asList("a", "c")), is(0.6));
+        assertThat(matcher.score(asList("a", "b")), is(1.0));
+        assertThat(matcher.score("a"), is(0.0));
+        assertThat(matcher.getScore(), is(score));
+        assertThat(((ScorableMatcher) matcher.compile()).score(asList("a", "c")), is(0.6));
+    }
+
+    @Test
+    public void score__default__applies_the_matcher() {
+
+        final ScorableLengthMatcher scorable = new ScorableLengthMatcher(1, new AtomicInteger());
+
+        assertThat(scorable.score("abc"), is(1.0 / 3));
+    }
+
+    private static class CountingMatcher extends BaseMatcher<Integer> {
+        private final AtomicInteger applications = new AtomicInteger();
+        private final AtomicInteger mismatchDescriptions = new AtomicInteger();
+
+        @Override
+        public boolean matches(final Object item) {
+            applications.incrementAndGet();
+            return false;
+        }
+
+        @Override
+        public void describeMismatch(final Object item, final Description description) {
+            mismatchDescriptions.incrementAndGet();
+            super.describeMismatch(item, description);
+        }
+
+        @Override
+        public void describeTo(final Description description) {
+            description.appendText("nothing");
+        }
+    }
+
+    @Test
+    public void describeMismatch__debugging__nested_matchers_described_once() {
+
+        final CountingMatcher counting = new CountingMatcher();
+        final FluentIterableMatcher<Integer, Iterable<Integer>> matcher = anIterableOf(Integer.class)
+            .debugging()
+            .withItemsMatching(counting, counting);
+        final List<Integer> ints = asList(1, 2, 3);
+
+        assertFalse(matcher.matches(ints));
+        matcher.getScore();
+        final int applications = counting.applications.get();
+        final StringDescription first = new StringDescription();
+        final StringDescription second = new StringDescription();
+        matcher.describeMismatch(ints, first);
+        final int applicationsForFirst = counting.applications.get() - applications;
+        final int mismatchDescriptionsForFirst = counting.mismatchDescriptions.get();
+        matcher.describeMismatch(ints, second);
+
+        assertThat(second.toString(), is(first.toString()));
+        assertThat(applicationsForFirst, is(0));
+        assertThat(mismatchDescriptionsForFirst, is(ints.size()));
+    }
+
+    @Test
+    public void describeMismatch__debugging__only_printed_items() {
+
+        final CountingMatcher counting = new CountingMatcher();
+        final MatcherFactory an = ConvenientMatchers.customized()
+            .debugging()
+            .withMaxItemLines(2)
+            .build();
+        final FluentIterableMatcher<Integer, Iterable<Integer>> matcher = an.<Integer, Iterable<Integer>>iterableOf(Integer.class)
+            .withItemsMatching(counting);
+        final List<Integer> ints = IntStream.range(0, 1000).boxed().collect(toList());
+
+        assertFalse(matcher.matches(ints));
+        matcher.getScore();
+        final int applications = counting.applications.get();
+        matcher.describeMismatch(ints, new StringDescription());
+
+        assertThat(counting.applications.get() - applications, is(0));
+        assertThat(counting.mismatchDescriptions.get(), is(2));
+    }
+
     @Test
     public void factoryForBetterTyping() {
 
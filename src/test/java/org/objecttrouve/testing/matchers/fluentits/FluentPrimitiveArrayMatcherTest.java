@@ -0,0 +1,209 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.objecttrouve.testing.matchers.ConvenientMatchers.aDoubleArray;
+import static org.objecttrouve.testing.matchers.ConvenientMatchers.aLongArray;
+import static org.objecttrouve.testing.matchers.ConvenientMatchers.anIntArray;
+import static org.objecttrouve.testing.matchers.ConvenientMatchers.anIterableOf;
+
+public class FluentPrimitiveArrayMatcherTest {
+
+    private static String mismatchOf(final Matcher<?> matcher, final Object actual) {
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatch(actual, description);
+        return description.toString();
+    }
+
+    @Test
+    public void matchesSafely__match() {
+
+        final FluentIntArrayMatcher matcher = anIntArray()
+            .ofSize(4)
+            .exactly()
+            .sorted()
+            .unique()
+            .withItems(9, 1, 5, 3);
+
+        assertTrue(matcher.matchesSafely(new int[]{1, 3, 5, 9}));
+        assertThat(matcher.getScore(), is(1.0));
+    }
+
+    @Test
+    public void describeMismatchSafely__same_as_for_Iterable() {
+
+        final FluentIntArrayMatcher matcher = anIntArray()
+            .ofSize(4)
+            .exactly()
+            .sorted()
+            .unique()
+            .withItems(1, 3, 5, 9);
+        final FluentIterableMatcher<Integer, Iterable<Integer>> iterableMatcher = anIterableOf(Integer.class)
+            .ofSize(4)
+            .exactly()
+            .sorted()
+            .unique()
+            .withItems(1, 3, 5, 9);
+        final int[] actual = {3, 1, 1, 7};
+        final List<Integer> boxed = asList(3, 1, 1, 7);
+
+        assertFalse(matcher.matches(actual));
+        assertFalse(iterableMatcher.matches(boxed));
+
+        assertThat(mismatchOf(matcher, actual), is(mismatchOf(iterableMatcher, boxed)));
+        assertThat(matcher.getScore(), is(iterableMatcher.getScore()));
+    }
+
+    @Test
+    public void describeMismatchSafely__more_expectations_than_matching_items__same_as_for_Iterable() {
+
+        final FluentIntArrayMatcher matcher = anIntArray().exactly().withItems(1, 1, 2);
+        final FluentIterableMatcher<Integer, Iterable<Integer>> iterableMatcher = anIterableOf(Integer.class).exactly().withItems(1, 1, 2);
+        final int[] actual = {1, 2, 2};
+        final List<Integer> boxed = asList(1, 2, 2);
+
+        assertFalse(matcher.matches(actual));
+        assertFalse(iterableMatcher.matches(boxed));
+
+        assertThat(mismatchOf(matcher, actual), is(mismatchOf(iterableMatcher, boxed)));
+    }
+
+    @Test
+    public void aLongArray__mismatch() {
+
+        final FluentLongArrayMatcher matcher = aLongArray().sorted().withItems(Long.MAX_VALUE);
+
+        assertFalse(matcher.matches(new long[]{Long.MAX_VALUE, Long.MIN_VALUE}));
+        assertThat(mismatchOf(matcher, new long[]{Long.MAX_VALUE, Long.MIN_VALUE}), containsString("Collection is not sorted."));
+    }
+
+    @Test
+    public void aDoubleArray__match__NaN() {
+
+        final FluentDoubleArrayMatcher matcher = aDoubleArray().sorted().unique().withItems(Double.NaN, 0.0);
+
+        assertTrue(matcher.matches(new double[]{-0.0, 0.0, Double.NaN}));
+    }
+
+    @Test
+    public void aLongArray__exactly__duplicate_expected_values__match() {
+
+        final FluentLongArrayMatcher matcher = aLongArray().exactly().withItems(7L, Long.MIN_VALUE, 7L);
+
+        assertTrue(matcher.matches(new long[]{7L, 7L, Long.MIN_VALUE}));
+        assertThat(matcher.getScore(), is(1.0));
+    }
+
+    @Test
+    public void aLongArray__exactly__duplicate_expected_values__mismatch__same_as_for_Iterable() {
+
+        final FluentLongArrayMatcher matcher = aLongArray().exactly().withItems(7L, Long.MIN_VALUE, 7L);
+        final FluentIterableMatcher<Long, Iterable<Long>> iterableMatcher = anIterableOf(Long.class).exactly().withItems(7L, Long.MIN_VALUE, 7L);
+        final long[] actual = {7L, Long.MIN_VALUE, Long.MIN_VALUE};
+        final List<Long> boxed = asList(7L, Long.MIN_VALUE, Long.MIN_VALUE);
+
+        assertFalse(matcher.matches(actual));
+        assertFalse(iterableMatcher.matches(boxed));
+
+        assertThat(mismatchOf(matcher, actual), is(mismatchOf(iterableMatcher, boxed)));
+        assertThat(matcher.getScore(), is(iterableMatcher.getScore()));
+    }
+
+    @Test
+    public void aLongArray__exactly__many_duplicate_expected_values__mismatch__same_as_for_Iterable() {
+
+        final long[] expected = LongStream.range(0, 40).map(k -> k / 2).toArray();
+        final long[] actual = LongStream.range(0, 40).map(k -> k / 4).toArray();
+        final FluentLongArrayMatcher matcher = aLongArray().exactly().withItems(expected);
+        final FluentIterableMatcher<Long, Iterable<Long>> iterableMatcher = anIterableOf(Long.class).exactly().withItems(LongStream.of(expected).boxed().toArray(Long[]::new));
+        final List<Long> boxed = LongStream.of(actual).boxed().collect(toList());
+
+        assertFalse(matcher.matches(actual));
+        assertFalse(iterableMatcher.matches(boxed));
+
+        assertThat(mismatchOf(matcher, actual), is(mismatchOf(iterableMatcher, boxed)));
+        assertThat(matcher.getScore(), is(iterableMatcher.getScore()));
+    }
+
+    @Test
+    public void aDoubleArray__exactly__duplicate_expected_values__match() {
+
+        final FluentDoubleArrayMatcher matcher = aDoubleArray().exactly().withItems(0.5, Double.NaN, 0.5, -0.0);
+
+        assertTrue(matcher.matches(new double[]{Double.NaN, 0.5, -0.0, 0.5}));
+        assertThat(matcher.getScore(), is(1.0));
+    }
+
+    @Test
+    public void aDoubleArray__exactly__duplicate_expected_values__mismatch__same_as_for_Iterable() {
+
+        final FluentDoubleArrayMatcher matcher = aDoubleArray().exactly().withItems(0.5, Double.NaN, 0.5, -0.0);
+        final FluentIterableMatcher<Double, Iterable<Double>> iterableMatcher = anIterableOf(Double.class).exactly().withItems(0.5, Double.NaN, 0.5, -0.0);
+        final double[] actual = {Double.NaN, 0.5, 0.0, Double.NaN};
+        final List<Double> boxed = asList(Double.NaN, 0.5, 0.0, Double.NaN);
+
+        assertFalse(matcher.matches(actual));
+        assertFalse(iterableMatcher.matches(boxed));
+
+        assertThat(mismatchOf(matcher, actual), is(mismatchOf(iterableMatcher, boxed)));
+        assertThat(matcher.getScore(), is(iterableMatcher.getScore()));
+    }
+
+    @Test
+    public void aDoubleArray__unique__match__zeros_of_either_sign() {
+
+        assertTrue(aDoubleArray().unique().matches(new double[]{0.0, -0.0, Double.NaN}));
+    }
+
+    @Test
+    public void anIntArray__unique__mismatch__duplicate_zeros() {
+
+        final FluentIntArrayMatcher matcher = anIntArray().unique();
+
+        assertFalse(matcher.matches(new int[]{0, 5, 0}));
+        assertThat(mismatchOf(matcher, new int[]{0, 5, 0}), containsString("Detected duplicates."));
+    }
+
+    @Test
+    public void aDoubleArray__forStream__mismatch__stream_consumed_once() {
+
+        final Matcher<DoubleStream> matcher = aDoubleArray().unique().forStream();
+        final DoubleStream stream = DoubleStream.of(0.5, 0.5);
+
+        assertFalse(matcher.matches(stream));
+        assertThat(mismatchOf(matcher, stream), containsString("Detected duplicates."));
+    }
+
+    @Test
+    public void anIntArray__forStream__match() {
+
+        assertTrue(anIntArray().ofSize(1000).sorted().unique().withItems(999).forStream().matches(IntStream.range(0, 1000)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void matchesSafely__error__exactly_and_inconsistent_size() {
+
+        anIntArray().ofSize(2).exactly().withItems(1).matchesSafely(new int[]{1, 2});
+    }
+}
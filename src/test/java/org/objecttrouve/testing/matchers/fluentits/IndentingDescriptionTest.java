@@ -0,0 +1,40 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class IndentingDescriptionTest {
+
+    @Test
+    public void appendText__indents_new_lines() {
+
+        final StringDescription target = new StringDescription();
+        final IndentingDescription indented = new IndentingDescription(target, "\t\t");
+
+        indented.appendText("a\nb\n").appendValue("c\nd").appendText("\n");
+        indented.flush();
+
+        assertThat(target.toString(), is("a\n\t\tb\n\t\t\"c\\nd\"\n\t\t"));
+    }
+
+    @Test
+    public void appendText__not_written_before_flush() {
+
+        final StringDescription target = new StringDescription();
+        final IndentingDescription indented = new IndentingDescription(target, "\t");
+
+        indented.appendText("a\nb");
+
+        assertThat(target.toString(), is(""));
+    }
+}
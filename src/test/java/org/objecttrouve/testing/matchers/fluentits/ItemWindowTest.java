@@ -0,0 +1,70 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@SuppressWarnings("rawtypes")
+public class ItemWindowTest {
+
+    private static List<Integer> indices(final ItemWindow<String> window) {
+        return window.retained().stream().map(ItemResult::getIndex).collect(toList());
+    }
+
+    @Test
+    public void retained__overlapping_windows() {
+
+        final ItemWindow<String> window = new ItemWindow<>(2, 100, new Matcher[0]);
+        for (int j = 0; j < 20; j++) {
+            window.add("x" + j, j, true, false, j == 10 || j == 13);
+        }
+
+        assertThat(indices(window), is(asList(0, 1, 8, 9, 10, 11, 12, 13, 14, 15)));
+    }
+
+    @Test
+    public void retained__no_radius() {
+
+        final ItemWindow<String> window = new ItemWindow<>(0, 100, new Matcher[0]);
+        for (int j = 0; j < 20; j++) {
+            window.add("x" + j, j, true, false, j % 5 == 4);
+        }
+
+        assertThat(indices(window), is(asList(4, 9, 14, 19)));
+    }
+
+    @Test
+    public void retained__limit() {
+
+        final ItemWindow<String> window = new ItemWindow<>(1, 3, new Matcher[0]);
+        for (int j = 0; j < 20; j++) {
+            window.add("x" + j, j, true, false, true);
+        }
+
+        assertThat(indices(window), is(asList(0, 1, 2)));
+    }
+
+    @Test
+    public void retained__radius_beyond_limit() {
+
+        final ItemWindow<String> window = new ItemWindow<>(Integer.MAX_VALUE, 3, new Matcher[0]);
+        for (int j = 0; j < 20; j++) {
+            window.add("x" + j, j, true, false, j == 10);
+        }
+
+        assertThat(indices(window), is(asList(0, 1, 2)));
+    }
+}
@@ -35,11 +35,9 @@ public class MatchMatrixTest {
     }
 
     @Test
-    public void test__MatchMatrix__scoredMismatch__getScore(){
+    public void test__MatchMatrix__scorer__getScore(){
 
-        final MatchMatrix matchMatrix = new MatchMatrix(2, 2);
-
-        matchMatrix.scoredMismatch(0, 1, 0.5);
+        final MatchMatrix matchMatrix = new MatchMatrix(2, 2, (i, j) -> i == 0 && j == 1 ? 0.5 : 0.0);
 
         assertThat(matchMatrix.getScore(0,1), is(0.5));
         assertThat(matchMatrix.getScore(0,0), is(0.0));
@@ -48,11 +46,10 @@ public class MatchMatrixTest {
     }
 
     @Test
-    public void test__MatchMatrix__scoredMismatch_match_getScore(){
+    public void test__MatchMatrix__scorer_match_getScore(){
 
-        final MatchMatrix matchMatrix = new MatchMatrix(2, 2);
+        final MatchMatrix matchMatrix = new MatchMatrix(2, 2, (i, j) -> i == 0 && j == 1 ? 0.5 : 0.0);
 
-        matchMatrix.scoredMismatch(0, 1, 0.5);
         matchMatrix.match(0, 0);
 
         assertThat(matchMatrix.getScore(0,1), is(0.5));
@@ -61,5 +58,139 @@ public class MatchMatrixTest {
         assertThat(matchMatrix.getScore(1,1), is(0.0));
     }
 
+    @Test
+    public void test__MatchMatrix__isOneToOne__empty(){
+
+        final MatchMatrix matchMatrix = new MatchMatrix(0, 0);
+
+        assertTrue(matchMatrix.isOneToOne());
+    }
+
+    @Test
+    public void test__MatchMatrix__isOneToOne__requires_reassignment(){
+
+        final MatchMatrix matchMatrix = new MatchMatrix(3, 3);
+
+        /* Greedy pairing of expectation 0 with item 0 would leave item 2 without a partner. */
+        matchMatrix.match(0, 0);
+        matchMatrix.match(0, 2);
+        matchMatrix.match(1, 0);
+        matchMatrix.match(1, 1);
+        matchMatrix.match(2, 1);
+
+        assertTrue(matchMatrix.isOneToOne());
+        final MaximumMatching pairing = matchMatrix.maximumMatching();
+        assertThat(pairing.size(), is(3));
+        assertThat(pairing.expectationOf(0), is(1));
+        assertThat(pairing.expectationOf(1), is(2));
+        assertThat(pairing.expectationOf(2), is(0));
+    }
+
+    @Test
+    public void test__MatchMatrix__isOneToOne__duplicated_expectations(){
+
+        final MatchMatrix matchMatrix = new MatchMatrix(3, 3);
+
+        /* Expectations (2.0, 1.0, 1.0) for actual items (1.0, 2.0, 2.0). */
+        matchMatrix.match(0, 1);
+        matchMatrix.match(0, 2);
+        matchMatrix.match(1, 0);
+        matchMatrix.match(2, 0);
+
+        assertFalse(matchMatrix.isOneToOne());
+        assertThat(matchMatrix.maximumMatching().size(), is(2));
+    }
+
+    @Test
+    public void test__MatchMatrix__isOneToOne__fewer_actual_items_than_expectations(){
+
+        final MatchMatrix matchMatrix = new MatchMatrix(3, 2);
+
+        matchMatrix.match(0, 0);
+        matchMatrix.match(1, 0);
+        matchMatrix.match(2, 1);
+
+        assertTrue(matchMatrix.isOneToOne());
+        assertThat(matchMatrix.maximumMatching().itemOf(0) + matchMatrix.maximumMatching().itemOf(1), is(-1));
+    }
+
+    @Test
+    public void test__MatchMatrix__isOneToOne__large_overlapping(){
+
+        final int n = 2000;
+        final MatchMatrix matchMatrix = new MatchMatrix(n, n);
+        /* Each expectation matches its own item and the next one. Only the "diagonal" is a perfect pairing. */
+        for (int i = 0; i < n; i++) {
+            matchMatrix.match(i, i);
+            if (i + 1 < n) {
+                matchMatrix.match(i, i + 1);
+            }
+        }
+
+        assertTrue(matchMatrix.isOneToOne());
+        for (int j = 0; j < n; j++) {
+            assertThat(matchMatrix.maximumMatching().expectationOf(j), is(j));
+        }
+    }
+
+    @Test
+    public void test__MatchMatrix__match__out_of_order(){
+
+        final MatchMatrix matchMatrix = new MatchMatrix(1, 5);
+
+        matchMatrix.match(0, 3);
+        matchMatrix.match(0, 1);
+        matchMatrix.match(0, 4);
+        matchMatrix.match(0, 1);
+
+        assertFalse(matchMatrix.matched(0,0));
+        assertTrue(matchMatrix.matched(0,1));
+        assertFalse(matchMatrix.matched(0,2));
+        assertTrue(matchMatrix.matched(0,3));
+        assertTrue(matchMatrix.matched(0,4));
+    }
+
+    @Test
+    public void test__MatchMatrix__match__after_score(){
+
+        final MatchMatrix matchMatrix = new MatchMatrix(1, 1, (i, j) -> 0.25);
+
+        assertThat(matchMatrix.getScore(0,0), is(0.25));
+        matchMatrix.match(0, 0);
+
+        assertTrue(matchMatrix.matched(0,0));
+        assertThat(matchMatrix.getScore(0,0), is(1.0));
+    }
+
+    @Test
+    public void test__MatchMatrix__scorer__asked_once_per_mismatch(){
+
+        final int[] calls = new int[1];
+        final MatchMatrix matchMatrix = new MatchMatrix(2, 2, (i, j) -> {
+            calls[0]++;
+            return (i + 1) * 0.25 + j * 0.125;
+        });
+
+        matchMatrix.match(0, 0);
+
+        assertThat(calls[0], is(0));
+        assertThat(matchMatrix.getScore(0,0), is(1.0));
+        assertThat(matchMatrix.getScore(1,1), is(0.625));
+        assertThat(matchMatrix.getScore(1,1), is(0.625));
+        assertThat(calls[0], is(1));
+    }
+
+    @Test
+    public void test__MatchMatrix__sizeInBytes__proportional_to_matches(){
+
+        final int n = 20_000;
+        final MatchMatrix matchMatrix = new MatchMatrix(n, n);
+        for (int i = 0; i < n; i++) {
+            matchMatrix.match(i, i);
+        }
+
+        assertTrue(matchMatrix.sizeInBytes() < 100L * n);
+        assertTrue(matchMatrix.isOneToOne());
+    }
 
-}
\ No newline at end of file
+}
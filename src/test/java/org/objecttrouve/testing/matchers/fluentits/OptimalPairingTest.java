@@ -0,0 +1,62 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class OptimalPairingTest {
+
+    @Test
+    public void columnsOfRows__better_than_greedy() {
+
+        final double[][] scores = {
+            {0.9, 0.8},
+            {0.85, 0.1}
+        };
+
+        assertThat(OptimalPairing.columnsOfRows(scores, 2), is(new int[]{1, 0}));
+    }
+
+    @Test
+    public void columnsOfRows__more_columns_than_rows() {
+
+        final double[][] scores = {
+            {0.1, 0.5, 0.6},
+            {0.2, 0.9, 0.7}
+        };
+
+        assertThat(OptimalPairing.columnsOfRows(scores, 3), is(new int[]{2, 1}));
+    }
+
+    @Test
+    public void columnsOfRows__more_rows_than_columns() {
+
+        final double[][] scores = {
+            {0.3, 0.0},
+            {0.9, 0.2},
+            {0.8, 0.7}
+        };
+
+        assertThat(OptimalPairing.columnsOfRows(scores, 2), is(new int[]{-1, 0, 1}));
+    }
+
+    @Test
+    public void columnsOfRows__no_columns() {
+
+        assertThat(OptimalPairing.columnsOfRows(new double[][]{{}, {}}, 0), is(new int[]{-1, -1}));
+    }
+
+    @Test
+    public void columnsOfRows__no_rows() {
+
+        assertThat(OptimalPairing.columnsOfRows(new double[0][], 2), is(new int[0]));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.junit.Test;
+
+import java.util.BitSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class OrderAlignmentTest {
+
+    private static String aligned(final int[]... expectationsPerItem) {
+        final BitSet aligned = OrderAlignment.alignedItems(expectationsPerItem);
+        return aligned.toString();
+    }
+
+    @Test
+    public void alignedItems__all_in_order() {
+
+        assertThat(aligned(new int[]{0}, new int[]{1}, new int[]{2}), is("{0, 1, 2}"));
+    }
+
+    @Test
+    public void alignedItems__one_item_moved_to_the_front() {
+
+        assertThat(aligned(new int[]{3}, new int[]{0}, new int[]{1}, new int[]{2}), is("{1, 2, 3}"));
+    }
+
+    @Test
+    public void alignedItems__unmatched_items_in_between() {
+
+        assertThat(aligned(new int[0], new int[]{0}, new int[0], new int[]{1}), is("{1, 3}"));
+    }
+
+    @Test
+    public void alignedItems__item_matching_several_expectations() {
+
+        assertThat(aligned(new int[]{0, 1}, new int[]{1}, new int[]{2}), is("{0, 1, 2}"));
+    }
+
+    @Test
+    public void alignedItems__prefers_earlier_items() {
+
+        assertThat(aligned(new int[]{0}, new int[]{0}), is("{0}"));
+    }
+
+    @Test
+    public void alignedItems__nothing_matched() {
+
+        assertThat(aligned(new int[0], new int[0]), is("{}"));
+    }
+}
@@ -16,7 +16,10 @@ import org.objecttrouve.testing.matchers.api.Symbols;
 import org.objecttrouve.testing.matchers.customization.StringifiersConfig;
 import org.objecttrouve.testing.matchers.customization.SymbolsConfig;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -685,4 +688,133 @@ public class ProseTest {
         }
     }
 
+    private static List<ItemResult> numbers(final int size, final int... violating) {
+        final List<ItemResult> itemResults = new ArrayList<>();
+        for (int j = 0; j < size; j++) {
+            final int index = j;
+            final boolean unsorted = Arrays.stream(violating).anyMatch(v -> v == index);
+            itemResults.add(ItemResult.builder("n" + j).withIndex(j).matched(true).breakingSortOrder(unsorted).build());
+        }
+        return itemResults;
+    }
+
+    @Test
+    public void describe__contextRadius__collapses_items_far_from_violations() {
+
+        final Prose<String> prose = new Prose<>(SymbolsConfig.defaultSymbols(), StringifiersConfig.stringifiers().build(), 100, 1);
+        final StringDescription description = new StringDescription();
+
+        prose.describe(Stream.empty(), numbers(20, 5, 7), description);
+
+        assertThat(description.toString(), is("" +
+            "\n" +
+            "Findings:\n" +
+            "\n" +
+            "\n" +
+            "⦗0..3⦘ 💕 4 item(s)\n" +
+            "⦗ 4⦘⦗n4⦘💕        \n" +
+            "⦗ 5⦘⦗n5⦘💕↕       \n" +
+            "⦗ 6⦘⦗n6⦘💕        \n" +
+            "⦗ 7⦘⦗n7⦘💕↕       \n" +
+            "⦗ 8⦘⦗n8⦘💕        \n" +
+            "⦗9..19⦘ 💕 11 item(s)\n" +
+            "\n"
+            +
+            ""));
+    }
+
+    @Test
+    public void describe__maxItemLines__sums_up_remaining_items() {
+
+        final Prose<String> prose = new Prose<>(SymbolsConfig.defaultSymbols(), StringifiersConfig.stringifiers().build(), 3, 0);
+        final StringDescription description = new StringDescription();
+
+        prose.describe(Stream.empty(), numbers(500_000, 1, 2, 3, 4, 499_999), description);
+
+        assertThat(description.toString(), is("" +
+            "\n" +
+            "Findings:\n" +
+            "\n" +
+            "\n" +
+            "⦗0..0⦘ 💕 1 item(s)\n" +
+            "⦗     1⦘⦗n1⦘💕↕       \n" +
+            "⦗     2⦘⦗n2⦘💕↕       \n" +
+            "⦗3..499999⦘ 499997 more item(s), 3 of them violating\n" +
+            "\n"
+            +
+            ""));
+    }
+
+    @Test
+    public void describe__no_limits__all_items() {
+
+        final StringDescription description = new StringDescription();
+
+        stringProse.describe(Stream.empty(), numbers(3), description);
+
+        assertThat(description.toString(), is("" +
+            "\n" +
+            "Findings:\n" +
+            "\n" +
+            "\n" +
+            "⦗0⦘⦗n0⦘💕        \n" +
+            "⦗1⦘⦗n1⦘💕        \n" +
+            "⦗2⦘⦗n2⦘💕        \n" +
+            "\n"
+            +
+            ""));
+    }
+
+    @Test
+    public void describe__stringifies_only_printed_items() {
+
+        final List<Object> stringified = new ArrayList<>();
+        final Prose<String> prose = new Prose<>(
+            SymbolsConfig.defaultSymbols(),
+            StringifiersConfig.stringifiers()
+                .withShortStringifier(String.class, s -> {
+                    stringified.add(s);
+                    return s;
+                })
+                .build(),
+            100,
+            1
+        );
+
+        prose.describe(Stream.empty(), numbers(1000, 500), new StringDescription());
+
+        assertThat(stringified, is(asList("n499", "n500", "n501")));
+    }
+
+    @Test
+    public void describe__bounded_stringifier__told_visible_width() {
+
+        final List<Integer> maxLengths = new ArrayList<>();
+        final Prose<String> prose = new Prose<>(
+            SymbolsConfig.defaultSymbols(),
+            StringifiersConfig.stringifiers()
+                .withBoundedShortStringifier(String.class, (s, maxLength) -> {
+                    maxLengths.add(maxLength);
+                    return s;
+                })
+                .build()
+        );
+
+        prose.describe(Stream.empty(), numbers(2), new StringDescription());
+
+        assertThat(maxLengths, is(asList(30, 30)));
+    }
+
+    @Test
+    public void describe__width_from_sample() {
+
+        final List<ItemResult> itemResults = numbers(150);
+        itemResults.set(149, ItemResult.builder("a much longer item").withIndex(149).matched(true).build());
+        final StringDescription description = new StringDescription();
+
+        stringProse.describe(Stream.empty(), itemResults, description);
+
+        assertThat(description.toString(), containsString("⦗ 99⦘⦗n99⦘💕"));
+        assertThat(description.toString(), containsString("⦗149⦘⦗a m⦘💕"));
+    }
 }
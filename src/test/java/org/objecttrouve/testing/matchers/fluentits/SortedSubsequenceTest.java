@@ -0,0 +1,50 @@
+/*
+ * Released under the terms of the MIT License.
+ *
+ * Copyright (c) 2020 objecttrouve.org <un.object.trouve@gmail.com>
+ *
+ */
+
+package org.objecttrouve.testing.matchers.fluentits;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SortedSubsequenceTest {
+
+    private static String unsorted(final int... items) {
+        return SortedSubsequence.unsortedItems(items.length, (j1, j2) -> Integer.compare(items[j1], items[j2])).toString();
+    }
+
+    @Test
+    public void unsortedItems__sorted() {
+
+        assertThat(unsorted(1, 2, 2, 3), is("{}"));
+    }
+
+    @Test
+    public void unsortedItems__one_item_moved_to_the_front() {
+
+        assertThat(unsorted(5, 1, 2, 3, 4, 6), is("{0}"));
+    }
+
+    @Test
+    public void unsortedItems__one_item_moved_to_the_back() {
+
+        assertThat(unsorted(1, 3, 4, 5, 6, 2), is("{5}"));
+    }
+
+    @Test
+    public void unsortedItems__reverse_order__keeps_the_first_item() {
+
+        assertThat(unsorted(3, 2, 1), is("{1, 2}"));
+    }
+
+    @Test
+    public void unsortedItems__none() {
+
+        assertThat(unsorted(), is("{}"));
+    }
+}